@@ -219,6 +219,20 @@ public abstract class AbstractOfficialTest {
         printProblems(fixture, problems);
     }
 
+    /**
+     * Tests with a fixture without reporting problems.
+     *
+     * @param fixture
+     */
+    public void testSilently(Fixture fixture) {
+        JsonSchema schema = getSchema(fixture.getSchema());
+        StringReader reader = new StringReader(fixture.getData().toString());
+
+        boolean valid = service.isValid(reader, schema);
+
+        assertThat(valid).isEqualTo(fixture.getResult());
+    }
+
     private JsonSchema getSchema(JsonValue value) {
         if (value == lastValue) {
             return lastSchema;
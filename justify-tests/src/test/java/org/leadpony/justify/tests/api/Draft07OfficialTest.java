@@ -107,6 +107,12 @@ public class Draft07OfficialTest extends AbstractOfficialTest {
         test(fixture);
     }
 
+    @ParameterizedTest
+    @MethodSource("mandatory")
+    public void testMandatorySilently(Fixture fixture) {
+        testSilently(fixture);
+    }
+
     @ParameterizedTest
     @MethodSource("optional")
     public void testOptional(Fixture fixture) {
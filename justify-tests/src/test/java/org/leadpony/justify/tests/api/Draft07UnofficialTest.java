@@ -30,8 +30,16 @@ public class Draft07UnofficialTest extends AbstractOfficialTest {
 
     private static final String[] MANDATORY = {
             "/org/leadpony/justify/tests/api/instance/additionalProperties.json",
+            "/org/leadpony/justify/tests/api/instance/anyOf-oneOf.json",
+            "/org/leadpony/justify/tests/api/instance/enum.json",
             "/org/leadpony/justify/tests/api/instance/if-then-else.json",
+            "/org/leadpony/justify/tests/api/instance/multipleOf.json",
+            "/org/leadpony/justify/tests/api/instance/pattern.json",
+            "/org/leadpony/justify/tests/api/instance/patternProperties.json",
             "/org/leadpony/justify/tests/api/instance/propertyNames.json",
+            "/org/leadpony/justify/tests/api/instance/ref.json",
+            "/org/leadpony/justify/tests/api/instance/required.json",
+            "/org/leadpony/justify/tests/api/instance/uniqueItems.json",
     };
 
     public static Stream<Fixture> mandatory() {
@@ -43,4 +51,10 @@ public class Draft07UnofficialTest extends AbstractOfficialTest {
     public void testMandatory(Fixture fixture) {
         test(fixture);
     }
+
+    @ParameterizedTest
+    @MethodSource("mandatory")
+    public void testMandatorySilently(Fixture fixture) {
+        testSilently(fixture);
+    }
 }
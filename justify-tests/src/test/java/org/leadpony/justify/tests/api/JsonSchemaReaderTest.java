@@ -21,21 +21,26 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 
 import java.io.StringReader;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
+import javax.json.JsonReader;
 import javax.json.JsonValue;
 import javax.json.stream.JsonParsingException;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.JsonSchemaReader;
 import org.leadpony.justify.api.JsonSchemaReaderFactory;
 import org.leadpony.justify.api.JsonValidatingException;
 import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.tests.helper.ApiTest;
 import org.leadpony.justify.tests.helper.JsonAssertions;
 import org.leadpony.justify.tests.helper.JsonSource;
@@ -167,6 +172,118 @@ public class JsonSchemaReaderTest {
         assertThat(thrown).isNull();
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "abc1, true",
+        "abc, false",
+        "abc1, true",
+        "1abc, false",
+        "abc, false",
+        "x, false",
+        "xyz9, true",
+    })
+    public void readShouldCachePatternResultsIfCacheSizeIsSpecified(String value, boolean expected) {
+        JsonSchemaReaderFactory factory = service.createSchemaReaderFactoryBuilder()
+                .withPatternCacheSize(2)
+                .build();
+        JsonSchema schema;
+        try (JsonSchemaReader reader = factory.createSchemaReader(
+                new StringReader("{ \"pattern\": \"^[a-z]+[0-9]$\" }"))) {
+            schema = reader.read();
+        }
+        String instance = "\"" + value + "\"";
+        for (int i = 0; i < 3; i++) {
+            assertThat(service.isValid(new StringReader(instance), schema)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void withPatternCacheSizeShouldThrowIfSizeIsNegative() {
+        Throwable thrown = catchThrowable(() -> service.createSchemaReaderFactoryBuilder().withPatternCacheSize(-1));
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "example.org, true",
+        "-example.org, false",
+        "example.org, true",
+        "\u4f8b\u3048.jp, true",
+        "-example.org, false",
+        "\u4f8b\u3048.-jp, false",
+    })
+    public void readShouldCacheFormatResultsIfCacheSizeIsSpecified(String value, boolean expected) {
+        JsonSchemaReaderFactory factory = service.createSchemaReaderFactoryBuilder()
+                .withFormatCacheSize("idn-hostname", 2)
+                .build();
+        JsonSchema schema;
+        try (JsonSchemaReader reader = factory.createSchemaReader(
+                new StringReader("{ \"format\": \"idn-hostname\" }"))) {
+            schema = reader.read();
+        }
+        String instance = "\"" + value + "\"";
+        for (int i = 0; i < 3; i++) {
+            assertThat(service.isValid(new StringReader(instance), schema)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void withFormatCacheSizeShouldThrowIfSizeIsNegative() {
+        Throwable thrown = catchThrowable(() -> service.createSchemaReaderFactoryBuilder()
+                .withFormatCacheSize("idn-hostname", -1));
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final String DISCRIMINATED_SCHEMA = "{ \"oneOf\": ["
+            + "{ \"properties\": { \"kind\": { \"const\": \"a\" }, \"a\": { \"type\": \"integer\" } },"
+            + "  \"required\": [\"kind\", \"a\"] },"
+            + "{ \"properties\": { \"kind\": { \"enum\": [\"b\", \"c\"] }, \"b\": { \"type\": \"string\" } },"
+            + "  \"required\": [\"kind\"] },"
+            + "{ \"properties\": { \"kind\": { \"const\": \"c\" } }, \"required\": [\"kind\"],"
+            + "  \"maxProperties\": 1 }"
+            + "] }";
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "{\"kind\": \"a\", \"a\": 1} | true",
+        "{\"a\": 1, \"kind\": \"a\"} | true",
+        "{\"a\": \"x\", \"kind\": \"a\"} | false",
+        "{\"kind\": \"b\", \"b\": \"x\"} | true",
+        "{\"kind\": \"b\", \"b\": 1} | false",
+        "{\"kind\": \"c\"} | false",
+        "{\"b\": \"x\", \"kind\": \"c\"} | true",
+        "{\"kind\": \"d\"} | false",
+        "{\"kind\": 1} | false",
+        "{\"x\": {\"kind\": \"b\"}, \"kind\": \"a\", \"a\": 2} | true",
+        "{\"x\": [1, 2, 3], \"a\": 1} | false",
+        "{} | false",
+    })
+    public void readShouldDispatchObjectsByDiscriminatorWithAnyBufferSize(String instance, boolean expected) {
+        for (int size : new int[] {0, 1, 3, 64}) {
+            JsonSchemaReaderFactory factory = service.createSchemaReaderFactoryBuilder()
+                    .withDiscriminatorBufferSize(size)
+                    .build();
+            JsonSchema schema;
+            try (JsonSchemaReader reader = factory.createSchemaReader(new StringReader(DISCRIMINATED_SCHEMA))) {
+                schema = reader.read();
+            }
+            assertThat(service.isValid(new StringReader(instance), schema)).isEqualTo(expected);
+
+            List<Problem> problems = new ArrayList<>();
+            try (JsonReader reader = service.createReader(new StringReader(instance), schema, problems::addAll)) {
+                reader.readValue();
+            }
+            assertThat(problems.isEmpty()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void withDiscriminatorBufferSizeShouldThrowIfSizeIsNegative() {
+        Throwable thrown = catchThrowable(() -> service.createSchemaReaderFactoryBuilder()
+                .withDiscriminatorBufferSize(-1));
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
     /**
      * @author leadpony
      */
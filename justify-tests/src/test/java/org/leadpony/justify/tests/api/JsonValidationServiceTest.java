@@ -24,10 +24,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import javax.json.JsonException;
+import javax.json.stream.JsonParsingException;
 
 /**
  * A test class for testing the {@link JsonValidationService} implementation.
@@ -97,6 +99,62 @@ public class JsonValidationServiceTest {
                 .hasMessageContaining("nonexistent.json");
     }
 
+    @Test
+    public void isValidShouldReturnTrueIfInstanceIsValid() {
+        JsonSchema schema = service.readSchema(new StringReader(
+                "{\"items\":{\"oneOf\":[{\"type\":\"string\"},{\"type\":\"integer\"}]}}"));
+
+        boolean valid = service.isValid(new StringReader("[\"foo\",42]"), schema);
+
+        assertThat(valid).isTrue();
+    }
+
+    @Test
+    public void isValidShouldReturnFalseIfInstanceIsInvalid() {
+        JsonSchema schema = service.readSchema(new StringReader(
+                "{\"items\":{\"oneOf\":[{\"type\":\"string\"},{\"type\":\"integer\"}]}}"));
+
+        boolean valid = service.isValid(new StringReader("[\"foo\",true,42]"), schema);
+
+        assertThat(valid).isFalse();
+    }
+
+    @Test
+    public void isValidShouldThrowJsonParsingExceptionIfInstanceIsIllFormed() {
+        Throwable thrown = catchThrowable(() -> {
+            service.isValid(new StringReader("[\"foo\","), JsonSchema.TRUE);
+        });
+
+        assertThat(thrown).isInstanceOf(JsonParsingException.class);
+    }
+
+    @Test
+    public void isValidShouldValidatePropertiesFollowingUnconstrainedValues() {
+        JsonSchema schema = service.readSchema(new StringReader(
+                "{\"properties\":{\"b\":{\"type\":\"string\",\"minLength\":1}},\"maxProperties\":2}"));
+
+        assertThat(service.isValid(new StringReader(
+                "{\"a\":{\"c\":[1,{\"d\":[true,null]}]},\"b\":\"foo\"}"), schema)).isTrue();
+        assertThat(service.isValid(new StringReader(
+                "{\"a\":{\"c\":[1,{\"d\":[true,null]}]},\"b\":42}"), schema)).isFalse();
+        assertThat(service.isValid(new StringReader(
+                "{\"a\":[[1],[2]],\"b\":\"foo\",\"c\":{}}"), schema)).isFalse();
+        assertThat(service.isValid(new StringReader(
+                "{\"a\":{},\"b\":[\"foo\"]}"), schema)).isFalse();
+    }
+
+    @Test
+    public void isValidShouldThrowJsonParsingExceptionIfUnconstrainedValueIsTruncated() {
+        JsonSchema schema = service.readSchema(new StringReader(
+                "{\"properties\":{\"b\":{\"type\":\"string\"}}}"));
+
+        Throwable thrown = catchThrowable(() -> {
+            service.isValid(new StringReader("{\"a\":[1,[2,"), schema);
+        });
+
+        assertThat(thrown).isInstanceOf(JsonParsingException.class);
+    }
+
     @Test
     public void getJsonProviderShouldReturnValidJsonProvider() {
         assertThat(service.getJsonProvider()).isNotNull();
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.json.JsonArray;
 import javax.json.stream.JsonParser;
 import javax.json.stream.JsonParserFactory;
 
@@ -136,6 +137,88 @@ public class ValidationConfigTest {
         assertThat(handlerFactory.problems).hasSize(1);
     }
 
+    @Test
+    public void withFailFastShouldStopAtFirstProblem() {
+        List<Problem> problems = new ArrayList<>();
+        JsonSchema schema = service.readSchema(new StringReader(
+                "{\"items\":{\"type\":\"string\",\"minLength\":2}}"));
+
+        sut.withSchema(schema);
+        sut.withProblemHandler(problems::addAll);
+        sut.withFailFast(true);
+
+        JsonParserFactory factory = service.createParserFactory(sut.getAsMap());
+        JsonParser parser = factory.createParser(new StringReader("[\"a\",1,true]"));
+        while (parser.hasNext()) {
+            parser.next();
+        }
+
+        assertThat(problems).hasSize(1);
+        assertThat(problems.get(0).getPointer()).isEqualTo("/0");
+    }
+
+    @Test
+    public void withFailFastShouldReportAllProblemsIfDisabled() {
+        List<Problem> problems = new ArrayList<>();
+        JsonSchema schema = service.readSchema(new StringReader(
+                "{\"items\":{\"type\":\"string\",\"minLength\":2}}"));
+
+        sut.withSchema(schema);
+        sut.withProblemHandler(problems::addAll);
+        sut.withFailFast(false);
+
+        JsonParserFactory factory = service.createParserFactory(sut.getAsMap());
+        JsonParser parser = factory.createParser(new StringReader("[\"a\",1,true]"));
+        while (parser.hasNext()) {
+            parser.next();
+        }
+
+        assertThat(problems).hasSize(3);
+    }
+
+    @Test
+    public void withPointerTrackingShouldTrackPointersByDefault() {
+        List<Problem> problems = new ArrayList<>();
+        JsonSchema schema = service.readSchema(new StringReader(
+                "{\"properties\":{\"a/b\":{\"items\":{\"type\":\"string\"}}}}"));
+
+        sut.withSchema(schema);
+        sut.withProblemHandler(problems::addAll);
+
+        JsonParserFactory factory = service.createParserFactory(sut.getAsMap());
+        JsonParser parser = factory.createParser(new StringReader("{\"a/b\":[\"foo\",42]}"));
+        while (parser.hasNext()) {
+            parser.next();
+        }
+
+        assertThat(problems).hasSize(1);
+        assertThat(problems.get(0).getPointer()).isEqualTo("/a~1b/1");
+    }
+
+    @Test
+    public void withPointerTrackingShouldOmitPointersIfDisabled() {
+        List<Problem> problems = new ArrayList<>();
+        JsonSchema schema = service.readSchema(new StringReader(
+                "{\"properties\":{\"a/b\":{\"items\":{\"type\":\"string\"}}}}"));
+
+        sut.withSchema(schema);
+        sut.withProblemHandler(problems::addAll);
+        sut.withPointerTracking(false);
+
+        JsonParserFactory factory = service.createParserFactory(sut.getAsMap());
+        JsonParser parser = factory.createParser(new StringReader("{\"a/b\":[\"foo\",42]}"));
+        parser.next();
+        parser.next();
+        parser.next();
+        JsonArray array = parser.getArray();
+        parser.next();
+
+        assertThat(array).hasSize(2);
+        assertThat(problems).hasSize(1);
+        assertThat(problems.get(0).getPointer()).isNull();
+        assertThat(problems.get(0).getLocation()).isNotNull();
+    }
+
     /**
      * A mock class of {@link ProblemHandlerFactory}.
      *
@@ -66,6 +66,20 @@ public interface Evaluator {
         return false;
     }
 
+    /**
+     * Checks whether this evaluator ignores all the remaining events of the array
+     * or object which has just started at the specified depth, including the
+     * event closing it. The validator may skip such a subtree without delivering
+     * its events to this evaluator. This method returns {@code false} by default.
+     *
+     * @param depth the depth where the array or object started.
+     * @return {@code true} if this evaluator ignores the subtree, otherwise
+     *         {@code false}.
+     */
+    default boolean ignoresSubtree(int depth) {
+        return false;
+    }
+
     /**
      * The evaluator which evaluates anything as true.
      */
@@ -15,6 +15,7 @@
  */
 package org.leadpony.justify.api;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 
@@ -41,6 +42,47 @@ public interface EvaluatorContext {
      */
     JsonParser getParser();
 
+    /**
+     * Returns the string at the current parser event, which is either a key name
+     * or a string value. Unlike {@link JsonParser#getString()}, the string may be
+     * decoded only once per event and shared by all evaluators.
+     *
+     * @return the string at the current event.
+     * @throws IllegalStateException if the current event is neither
+     *                               {@link JsonParser.Event#KEY_NAME} nor
+     *                               {@link JsonParser.Event#VALUE_STRING}.
+     */
+    default String getStringValue() {
+        return getParser().getString();
+    }
+
+    /**
+     * Returns the number at the current parser event. Unlike
+     * {@link JsonParser#getBigDecimal()}, the number may be decoded only once per
+     * event and shared by all evaluators.
+     *
+     * @return the number at the current event.
+     * @throws IllegalStateException if the current event is not
+     *                               {@link JsonParser.Event#VALUE_NUMBER}.
+     */
+    default BigDecimal getDecimalValue() {
+        return getParser().getBigDecimal();
+    }
+
+    /**
+     * Returns the scalar value at the current parser event. Unlike
+     * {@link JsonParser#getValue()}, the value may be built only once per event
+     * and shared by all evaluators. This method must not be called at the start
+     * of an array or an object.
+     *
+     * @return the scalar value at the current event.
+     * @throws IllegalStateException if the current event is the end of an array
+     *                               or an object.
+     */
+    default JsonValue getScalarValue() {
+        return getParser().getValue();
+    }
+
     /**
      * Returns the current location in the instance as a JSON pointer.
      *
@@ -71,6 +113,19 @@ public interface EvaluatorContext {
      */
     boolean acceptsDefaultValues();
 
+    /**
+     * Checks if the current validation stops at the first problem found or not.
+     * Evaluators may stop evaluating their operands as soon as the result is
+     * determined to be false if this method returns {@code true}.
+     *
+     * @return {@code true} if the validation stops at the first problem,
+     *         {@code false} if the validation continues until the end of the
+     *         instance.
+     */
+    default boolean isFailFast() {
+        return false;
+    }
+
     /**
      * Inserts default values at the end of the object.
      *
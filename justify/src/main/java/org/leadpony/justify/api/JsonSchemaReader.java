@@ -93,6 +93,26 @@ public interface JsonSchemaReader extends Closeable {
      */
     String METASCHEMA = "org.leadpony.justify.api.JsonSchemaReader.METASCHEMA";
 
+    /**
+     * The property used to specify the maximum number of results cached for each
+     * {@code pattern} keyword.
+     */
+    String PATTERN_CACHE_SIZE = "org.leadpony.justify.api.JsonSchemaReader.PATTERN_CACHE_SIZE";
+
+    /**
+     * The property used to specify the maximum number of results cached for each
+     * {@code format} keyword. The value of this property is a map whose keys are
+     * the names of format attributes.
+     */
+    String FORMAT_CACHE_SIZES = "org.leadpony.justify.api.JsonSchemaReader.FORMAT_CACHE_SIZES";
+
+    /**
+     * The property used to specify the maximum number of parser events buffered
+     * until the discriminator of the subschemas in {@code anyOf} or
+     * {@code oneOf} keyword is found.
+     */
+    String DISCRIMINATOR_BUFFER_SIZE = "org.leadpony.justify.api.JsonSchemaReader.DISCRIMINATOR_BUFFER_SIZE";
+
     /**
      * Returns a JSON schema that is represented in the input source. This method
      * needs to be called only once for a reader instance.
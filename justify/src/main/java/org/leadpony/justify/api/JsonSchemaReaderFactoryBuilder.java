@@ -143,4 +143,98 @@ public interface JsonSchemaReaderFactoryBuilder {
      *                              {@code null}.
      */
     JsonSchemaReaderFactoryBuilder withMetaschema(JsonSchema metaschema);
+
+    /**
+     * Specifies the maximum number of match results cached for each
+     * {@code pattern} keyword in the schemas read. The cache is useful when the
+     * same string values appear repeatedly in the instances to validate. By
+     * default, the size is zero, which disables the cache.
+     *
+     * <p>
+     * The cache is bounded and shared by all threads validating with the same
+     * schema. Patterns which consist only of literal characters are matched
+     * without the cache. The size is rounded down to a power of two.
+     * </p>
+     *
+     * <p>
+     * The default implementation only checks the argument and returns this
+     * builder, which does not cache any match results.
+     * </p>
+     *
+     * @param size the maximum number of results cached for each pattern.
+     * @return this builder.
+     * @throws IllegalArgumentException if the specified {@code size} is negative.
+     */
+    default JsonSchemaReaderFactoryBuilder withPatternCacheSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative.");
+        }
+        return this;
+    }
+
+    /**
+     * Specifies the maximum number of results cached for each {@code format}
+     * keyword with the specified format attribute in the schemas read. The cache
+     * is useful for the format attributes which are costly to test, such as
+     * {@code "idn-hostname"} or {@code "iri"}, when the same string values
+     * appear repeatedly in the instances to validate. By default, the results of
+     * any format attributes are not cached.
+     *
+     * <p>
+     * The cache is bounded and shared by all threads validating with the same
+     * schema. Only the format attributes applied to strings can be cached. The
+     * size is rounded down to a power of two.
+     * </p>
+     *
+     * <p>
+     * The default implementation only checks the arguments and returns this
+     * builder, which does not cache any results.
+     * </p>
+     *
+     * @param attribute the name of the format attribute, such as
+     *                  {@code "idn-hostname"}.
+     * @param size      the maximum number of results cached for each
+     *                  {@code format} keyword. Zero disables the cache.
+     * @return this builder.
+     * @throws NullPointerException     if the specified {@code attribute} is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if the specified {@code size} is negative.
+     */
+    default JsonSchemaReaderFactoryBuilder withFormatCacheSize(String attribute, int size) {
+        if (attribute == null) {
+            throw new NullPointerException("attribute must not be null.");
+        }
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative.");
+        }
+        return this;
+    }
+
+    /**
+     * Specifies the maximum number of parser events buffered until the
+     * discriminator of the subschemas is found. A discriminator is a property
+     * required by every subschema of {@code anyOf} or {@code oneOf} keyword and
+     * restricted by {@code const} or {@code enum} keyword in each of them. When
+     * an object is validated without reporting problems, its events are
+     * buffered until the value of the discriminator arrives, and then evaluated
+     * only against the subschemas which can be valid for the value. If the
+     * buffer is full before the discriminator is found, the object is evaluated
+     * against all the subschemas. By default, the size is 64.
+     *
+     * <p>
+     * The default implementation only checks the argument and returns this
+     * builder, which keeps the default size.
+     * </p>
+     *
+     * @param size the maximum number of events to buffer. Zero disables the
+     *             buffering.
+     * @return this builder.
+     * @throws IllegalArgumentException if the specified {@code size} is negative.
+     */
+    default JsonSchemaReaderFactoryBuilder withDiscriminatorBufferSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative.");
+        }
+        return this;
+    }
 }
@@ -30,6 +30,7 @@ import javax.json.JsonReaderFactory;
 import javax.json.spi.JsonProvider;
 import javax.json.stream.JsonParser;
 import javax.json.stream.JsonParserFactory;
+import javax.json.stream.JsonParsingException;
 
 import org.leadpony.justify.spi.JsonValidationProvider;
 
@@ -403,6 +404,75 @@ public interface JsonValidationService extends JsonSchemaReaderFactory {
      */
     JsonReader createReader(Path path, JsonSchema schema, ProblemHandler handler);
 
+    /**
+     * Checks if the JSON document read from a byte stream is valid against the
+     * specified schema. The character encoding of the stream is determined as
+     * described in RFC 7159.
+     *
+     * <p>
+     * This method only answers whether the document is valid or not, and does
+     * not report any problems found. The validation ends as soon as the document
+     * turns out to be invalid. The stream will be closed by this method.
+     * </p>
+     *
+     * <p>
+     * The default implementation reads the document with the parser created by
+     * {@link #createParser(InputStream, JsonSchema, ProblemHandler)} until the
+     * first problems are reported.
+     * </p>
+     *
+     * @param in     a byte stream from which JSON is to be read.
+     * @param schema the JSON schema to apply when validating JSON document.
+     * @return {@code true} if the JSON document is valid, {@code false} if it is
+     *         not valid.
+     * @throws NullPointerException if any of specified parameters is {@code null}.
+     * @throws JsonException        if an I/O error occurs while reading.
+     * @throws JsonParsingException if the document is not well-formed JSON.
+     */
+    default boolean isValid(InputStream in, JsonSchema schema) {
+        boolean[] valid = {true};
+        try (JsonParser parser = createParser(in, schema, problems -> valid[0] = false)) {
+            while (valid[0] && parser.hasNext()) {
+                parser.next();
+            }
+        }
+        return valid[0];
+    }
+
+    /**
+     * Checks if the JSON document read from a character stream is valid against
+     * the specified schema.
+     *
+     * <p>
+     * This method only answers whether the document is valid or not, and does
+     * not report any problems found. The validation ends as soon as the document
+     * turns out to be invalid. The stream will be closed by this method.
+     * </p>
+     *
+     * <p>
+     * The default implementation reads the document with the parser created by
+     * {@link #createParser(Reader, JsonSchema, ProblemHandler)} until the first
+     * problems are reported.
+     * </p>
+     *
+     * @param reader the character stream from which JSON is to be read.
+     * @param schema the JSON schema to apply when validating JSON document.
+     * @return {@code true} if the JSON document is valid, {@code false} if it is
+     *         not valid.
+     * @throws NullPointerException if any of specified parameters is {@code null}.
+     * @throws JsonException        if an I/O error occurs while reading.
+     * @throws JsonParsingException if the document is not well-formed JSON.
+     */
+    default boolean isValid(Reader reader, JsonSchema schema) {
+        boolean[] valid = {true};
+        try (JsonParser parser = createParser(reader, schema, problems -> valid[0] = false)) {
+            while (valid[0] && parser.hasNext()) {
+                parser.next();
+            }
+        }
+        return valid[0];
+    }
+
     /**
      * Creates a JSON provider for validating JSON documents while parsing and
      * reading. This method is intended to be used with Java API for JSON Binding
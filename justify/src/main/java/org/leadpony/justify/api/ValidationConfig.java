@@ -40,6 +40,18 @@ public interface ValidationConfig {
      */
     String DEFAULT_VALUES = "org.leadpony.justify.api.ValidationConfig.DEFAULT_VALUES";
 
+    /**
+     * The property used to specify whether the validation will stop at the first
+     * problem found or not.
+     */
+    String FAIL_FAST = "org.leadpony.justify.api.ValidationConfig.FAIL_FAST";
+
+    /**
+     * The property used to specify whether the JSON pointers of the problems will
+     * be tracked or not.
+     */
+    String POINTER_TRACKING = "org.leadpony.justify.api.ValidationConfig.POINTER_TRACKING";
+
     /**
      * The property used to specify the factory of problem handlers.
      */
@@ -129,4 +141,43 @@ public interface ValidationConfig {
      * @return this builder.
      */
     ValidationConfig withDefaultValues(boolean usingDefaultValues);
+
+    /**
+     * Specifies whether the validation will stop at the first problem found or
+     * not. In fail-fast mode, the rest of the instance is not validated at all
+     * once a problem was found, and only the problems found until then are
+     * reported. By default, the validation continues until the end of the
+     * instance and reports all problems found.
+     *
+     * <p>
+     * The default implementation assigns the value to the property
+     * {@link #FAIL_FAST}.
+     * </p>
+     *
+     * @param failFast {@code true} to stop the validation at the first problem,
+     *                 {@code false} to validate the whole instance.
+     * @return this builder.
+     */
+    default ValidationConfig withFailFast(boolean failFast) {
+        return setProperty(FAIL_FAST, failFast);
+    }
+
+    /**
+     * Specifies whether the validators track the JSON pointer of the current
+     * value or not. If the tracking is disabled, the problems found will not have
+     * any JSON pointers, and {@link Problem#getPointer()} will return
+     * {@code null}. By default, the JSON pointers are tracked.
+     *
+     * <p>
+     * The default implementation assigns the value to the property
+     * {@link #POINTER_TRACKING}.
+     * </p>
+     *
+     * @param pointerTracking {@code true} to track the JSON pointers,
+     *                        {@code false} to disable the tracking.
+     * @return this builder.
+     */
+    default ValidationConfig withPointerTracking(boolean pointerTracking) {
+        return setProperty(POINTER_TRACKING, pointerTracking);
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.base;
+
+/**
+ * A growable set of bits, which holds the first 64 bits without allocating any
+ * array.
+ *
+ * @author leadpony
+ */
+public final class CompactBitSet {
+
+    private static final int WORD_SIZE = 64;
+
+    private long firstWord;
+    // The words for the bits after the first 64 bits, created on demand.
+    private long[] restWords;
+
+    /**
+     * Returns the bit at the given index.
+     *
+     * @param index the index of the bit, must not be negative.
+     * @return {@code true} if the bit is set.
+     */
+    public boolean get(int index) {
+        if (index < WORD_SIZE) {
+            return (firstWord & (1L << index)) != 0;
+        }
+        int i = index / WORD_SIZE - 1;
+        return restWords != null && i < restWords.length
+                && (restWords[i] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets the bit at the given index.
+     *
+     * @param index the index of the bit, must not be negative.
+     * @return {@code true} if the bit was not set before.
+     */
+    public boolean set(int index) {
+        long mask = 1L << index;
+        if (index < WORD_SIZE) {
+            if ((firstWord & mask) != 0) {
+                return false;
+            }
+            firstWord |= mask;
+            return true;
+        }
+        int i = index / WORD_SIZE - 1;
+        if (restWords == null) {
+            restWords = new long[i + 1];
+        } else if (i >= restWords.length) {
+            long[] words = new long[i + 1];
+            System.arraycopy(restWords, 0, words, 0, restWords.length);
+            restWords = words;
+        }
+        if ((restWords[i] & mask) != 0) {
+            return false;
+        }
+        restWords[i] |= mask;
+        return true;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base;
+
+/**
+ * A bounded cache which can be shared by multiple threads without locking.
+ *
+ * <p>
+ * Each key is stored in the single slot determined by its hash code, and a new
+ * entry simply replaces the entry previously stored in the same slot. Entries
+ * are immutable, so a thread reading a slot sees either a complete entry or
+ * no entry at all.
+ * </p>
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ * @author leadpony
+ */
+public final class DirectMappedCache<K, V> {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final Entry<K, V>[] entries;
+
+    /**
+     * Constructs this cache. The number of the slots is the size rounded down to
+     * a power of two, so the cache never holds more entries than the size.
+     *
+     * @param size the maximum number of the entries, must be positive.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public DirectMappedCache(int size) {
+        int capacity = Integer.highestOneBit(Math.min(Math.max(size, 1), MAX_CAPACITY));
+        this.entries = new Entry[capacity];
+    }
+
+    /**
+     * Returns the value associated with the key.
+     *
+     * @param key the key, cannot be {@code null}.
+     * @return the value associated with the key, or {@code null} if the key is
+     *         not cached.
+     */
+    public V get(K key) {
+        int hash = key.hashCode();
+        Entry<K, V> entry = entries[slotOf(hash)];
+        if (entry != null && entry.hash == hash && entry.key.equals(key)) {
+            return entry.value;
+        }
+        return null;
+    }
+
+    /**
+     * Associates the value with the key, evicting the entry which occupied the
+     * same slot.
+     *
+     * @param key   the key, cannot be {@code null}.
+     * @param value the value, cannot be {@code null}.
+     */
+    public void put(K key, V value) {
+        int hash = key.hashCode();
+        entries[slotOf(hash)] = new Entry<>(hash, key, value);
+    }
+
+    private int slotOf(int hash) {
+        return (hash ^ (hash >>> 16)) & (entries.length - 1);
+    }
+
+    /**
+     * An immutable entry of this cache.
+     *
+     * @param <K> the type of the key.
+     * @param <V> the type of the value.
+     */
+    private static final class Entry<K, V> {
+
+        final int hash;
+        final K key;
+        final V value;
+
+        Entry(int hash, K key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base;
+
+/**
+ * An open-addressing hash map from {@code long} keys to {@code int} indices.
+ * This map neither boxes the keys nor allocates entries.
+ *
+ * @author leadpony
+ */
+public final class LongIndexMap {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int[] indices = new int[INITIAL_CAPACITY];
+    private boolean[] used = new boolean[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Associates the index with the key if the key is not in this map yet.
+     *
+     * @param key   the key.
+     * @param index the index to associate, must not be negative.
+     * @return the index already associated with the key, or -1 if the key was
+     *         added.
+     */
+    public int putIfAbsent(long key, int index) {
+        final int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return indices[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        indices[slot] = index;
+        used[slot] = true;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+        return -1;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldIndices = indices;
+        boolean[] oldUsed = used;
+        final int capacity = oldKeys.length * 2;
+        keys = new long[capacity];
+        indices = new int[capacity];
+        used = new boolean[capacity];
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int slot = hash(oldKeys[i]) & mask;
+                while (used[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                indices[slot] = oldIndices[i];
+                used[slot] = true;
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9e3779b97f4a7c15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base;
+
+/**
+ * An open-addressing hash map from objects to {@code int} indices. This map
+ * does not allocate any entries.
+ *
+ * @param <K> the type of the keys.
+ * @author leadpony
+ */
+public final class ObjectIndexMap<K> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Object[] keys = new Object[INITIAL_CAPACITY];
+    private int[] indices = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Associates the index with the key if the key is not in this map yet.
+     *
+     * @param key   the key, cannot be {@code null}.
+     * @param index the index to associate, must not be negative.
+     * @return the index already associated with the key, or -1 if the key was
+     *         added.
+     */
+    public int putIfAbsent(K key, int index) {
+        final int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        Object existing;
+        while ((existing = keys[slot]) != null) {
+            if (existing.equals(key)) {
+                return indices[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        indices[slot] = index;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+        return -1;
+    }
+
+    private void grow() {
+        Object[] oldKeys = keys;
+        int[] oldIndices = indices;
+        final int capacity = oldKeys.length * 2;
+        keys = new Object[capacity];
+        indices = new int[capacity];
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            Object key = oldKeys[i];
+            if (key != null) {
+                int slot = hash(key) & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                indices[slot] = oldIndices[i];
+            }
+        }
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode() * 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -15,20 +15,39 @@
  */
 package org.leadpony.justify.internal.base.json;
 
+import java.util.Arrays;
+
 import javax.json.spi.JsonProvider;
 import javax.json.stream.JsonParser;
 
 /**
  * A default implementation of {@link PointerAwareJsonParser}.
  *
+ * <p>
+ * The current position is kept in a stack of primitive values, one entry for
+ * each enclosing array or object. The JSON pointer is built from the stack only
+ * when it is requested.
+ * </p>
+ *
  * @author leadpony
  */
 public class DefaultPointerAwareJsonParser extends JsonParserDecorator implements PointerAwareJsonParser {
 
-    private static final PointerBuilder INITIAL_BUILDER = new InitialPointerBuilder();
-    private static final PointerBuilder ROOT_BUILDER = new RootPointerBuilder();
+    private static final int INITIAL_CAPACITY = 16;
 
-    private PointerBuilder pointerBuilder;
+    /*
+     * Entries for objects in the stack of indices. Entries for arrays hold the
+     * index of the current item instead, which starts from -1.
+     */
+    private static final int NO_KEY = -2;
+    private static final int AT_KEY = -3;
+    private static final int AT_VALUE = -4;
+
+    private int[] indices = new int[INITIAL_CAPACITY];
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private int depth;
+    private boolean started;
+    private boolean tracking = true;
     private String cachedPointer;
 
     /**
@@ -39,22 +58,49 @@ public class DefaultPointerAwareJsonParser extends JsonParserDecorator implement
      */
     public DefaultPointerAwareJsonParser(JsonParser parser, JsonProvider jsonProvider) {
         super(parser, jsonProvider);
-        this.pointerBuilder = INITIAL_BUILDER;
         setCurrentParser(parser);
     }
 
     @Override
     public String getPointer() {
-        if (cachedPointer != null) {
-            return cachedPointer;
+        if (!started || !tracking) {
+            return null;
+        }
+        if (cachedPointer == null) {
+            cachedPointer = buildPointer();
         }
-        cachedPointer = pointerBuilder.toPointer();
         return cachedPointer;
     }
 
     @Override
     protected Event process(Event event) {
-        pointerBuilder = pointerBuilder.withEvent(event, getCurrentParser());
+        switch (event) {
+        case START_ARRAY:
+            advance();
+            push(-1);
+            break;
+        case START_OBJECT:
+            advance();
+            push(NO_KEY);
+            break;
+        case END_ARRAY:
+        case END_OBJECT:
+            if (depth == 0) {
+                throw new IllegalStateException();
+            }
+            keys[--depth] = null;
+            break;
+        case KEY_NAME:
+            if (tracking) {
+                keys[depth - 1] = getCurrentParser().getString();
+            }
+            indices[depth - 1] = AT_KEY;
+            break;
+        default:
+            advance();
+            break;
+        }
+        started = true;
         cachedPointer = null;
         return event;
     }
@@ -65,180 +111,73 @@ public class DefaultPointerAwareJsonParser extends JsonParserDecorator implement
         if (event == Event.END_ARRAY || event == Event.END_OBJECT) {
             return true;
         }
-        return pointerBuilder.isScoped();
+        return depth > 0;
     }
 
     /**
-     * A builder of a JSON pointer.
+     * Specifies whether this parser tracks the JSON pointer of the current value
+     * or not. If the tracking is disabled, {@link #getPointer()} always returns
+     * {@code null}.
      *
-     * @author leadpony
+     * @param tracking {@code true} to track the JSON pointer, {@code false} to
+     *                 disable the tracking.
      */
-    private interface PointerBuilder {
-
-        default boolean isScoped() {
-            return false;
-        }
-
-        PointerBuilder withEvent(Event event, JsonParser parser);
-
-        default String toPointer() {
-            StringBuilder builder = new StringBuilder();
-            build(builder);
-            return builder.toString();
-        }
-
-        default void build(StringBuilder builder) {
-        }
+    protected final void setPointerTracking(boolean tracking) {
+        this.tracking = tracking;
     }
 
     /**
-     * A pointer builder at starting point.
-     *
-     * @author leadpony
+     * Moves to the next value in the innermost array or object.
      */
-    private static class InitialPointerBuilder implements PointerBuilder {
-
-        @Override
-        public PointerBuilder withEvent(Event event, JsonParser parser) {
-            switch (event) {
-            case START_ARRAY:
-                return new ArrayPointerBuilder(ROOT_BUILDER);
-            case START_OBJECT:
-                return new ObjectPointerBuilder(ROOT_BUILDER);
-            case END_ARRAY:
-            case END_OBJECT:
-                throw new IllegalStateException();
-            default:
-                return ROOT_BUILDER;
+    private void advance() {
+        if (depth > 0) {
+            final int top = depth - 1;
+            if (indices[top] >= -1) {
+                indices[top]++;
+            } else {
+                indices[top] = AT_VALUE;
             }
         }
-
-        @Override
-        public String toPointer() {
-            return null;
-        }
     }
 
-    /**
-     * A pointer builder for root values.
-     *
-     * @author leadpony
-     */
-    private static class RootPointerBuilder implements PointerBuilder {
-
-        @Override
-        public PointerBuilder withEvent(Event event, JsonParser parser) {
-            throw new IllegalStateException();
+    private void push(int index) {
+        if (depth == indices.length) {
+            final int newCapacity = depth * 2;
+            indices = Arrays.copyOf(indices, newCapacity);
+            keys = Arrays.copyOf(keys, newCapacity);
         }
+        indices[depth++] = index;
     }
 
-    /**
-     * A pointer builder for JSON arrays.
-     *
-     * @author leadpony
-     */
-    private static class ArrayPointerBuilder implements PointerBuilder {
-
-        private final PointerBuilder parent;
-        private int index = -1;
-
-        ArrayPointerBuilder(PointerBuilder parent) {
-            this.parent = parent;
-        }
-
-        @Override
-        public boolean isScoped() {
-            return true;
-        }
-
-        @Override
-        public PointerBuilder withEvent(Event event, JsonParser parser) {
-            switch (event) {
-            case START_ARRAY:
-                this.index++;
-                return new ArrayPointerBuilder(this);
-            case START_OBJECT:
-                this.index++;
-                return new ObjectPointerBuilder(this);
-            case END_ARRAY:
-                return this.parent;
-            case END_OBJECT:
-                throw new IllegalStateException();
-            default:
-                this.index++;
-                return this;
-            }
-        }
-
-        @Override
-        public void build(StringBuilder builder) {
-            parent.build(builder);
+    private String buildPointer() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            final int index = indices[i];
             if (index >= 0) {
-                builder.append("/").append(index);
+                builder.append('/').append(index);
+            } else if (index == AT_VALUE) {
+                builder.append('/');
+                appendEscaped(builder, keys[i]);
             }
         }
+        return builder.toString();
     }
 
-    /**
-     * A pointer builder for JSON objects.
-     *
-     * @author leadpony
-     */
-    private static class ObjectPointerBuilder implements PointerBuilder {
-
-        private final PointerBuilder parent;
-        private String keyName;
-        private Event lastEvent;
-
-        ObjectPointerBuilder(PointerBuilder parent) {
-            this.parent = parent;
-        }
-
-        @Override
-        public boolean isScoped() {
-            return true;
-        }
-
-        @Override
-        public PointerBuilder withEvent(Event event, JsonParser parser) {
-            this.lastEvent = event;
-            switch (event) {
-            case START_ARRAY:
-                return new ArrayPointerBuilder(this);
-            case START_OBJECT:
-                return new ObjectPointerBuilder(this);
-            case END_ARRAY:
-                throw new IllegalStateException();
-            case END_OBJECT:
-                return this.parent;
-            case KEY_NAME:
-                this.keyName = parser.getString();
-            default:
-                return this;
+    private static void appendEscaped(StringBuilder builder, String keyName) {
+        int lastIndex = 0;
+        final int length = keyName.length();
+        for (int i = 0; i < length; i++) {
+            char c = keyName.charAt(i);
+            if (c == '~') {
+                builder.append(keyName, lastIndex, i).append("~0");
+                lastIndex = i + 1;
+            } else if (c == '/') {
+                builder.append(keyName, lastIndex, i).append("~1");
+                lastIndex = i + 1;
             }
         }
-
-        @Override
-        public void build(StringBuilder builder) {
-            parent.build(builder);
-            if (keyName != null && lastEvent != Event.KEY_NAME) {
-                builder.append('/');
-                int lastIndex = 0;
-                final int length = keyName.length();
-                for (int i = 0; i < length; i++) {
-                    char c = keyName.charAt(i);
-                    if (c == '~') {
-                        builder.append(keyName, lastIndex, i).append("~0");
-                        lastIndex = i + 1;
-                    } else if (c == '/') {
-                        builder.append(keyName, lastIndex, i).append("~1");
-                        lastIndex = i + 1;
-                    }
-                }
-                if (lastIndex < length) {
-                    builder.append(keyName, lastIndex, length);
-                }
-            }
+        if (lastIndex < length) {
+            builder.append(keyName, lastIndex, length);
         }
     }
 }
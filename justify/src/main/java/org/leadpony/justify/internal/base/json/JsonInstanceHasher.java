@@ -0,0 +1,348 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.json;
+
+import java.math.BigDecimal;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Map;
+
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+/**
+ * Event-driven calculator of structural digests of JSON instances.
+ *
+ * <p>
+ * Two JSON values which are equal to each other always have the same digest
+ * computed by the same calculator. The properties of objects are combined independently of their order, and
+ * numbers are normalized before hashing, so that {@code 1.0} and {@code 1} give
+ * the same digest. Each digest consists of two independent 64-bit hashes.
+ * Note that an object having duplicate property names is hashed with all of
+ * its properties, as they appear in the input.
+ * </p>
+ *
+ * <p>
+ * Each calculator is keyed with two seeds chosen at random when it is
+ * constructed. The digests computed by different calculators are not
+ * comparable, and the inputs which collide in a calculator cannot be crafted
+ * in advance. Different values have the same digest only with a negligible
+ * probability, so that the values having the same digest can be regarded as
+ * equal without comparing them.
+ * </p>
+ *
+ * <p>
+ * This calculator keeps only a primitive stack for the arrays and objects
+ * being read, and can be reused once a value is completed.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class JsonInstanceHasher {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private static final SecureRandom SEED_SOURCE = new SecureRandom();
+
+    private static final long TAG_NULL = 1;
+    private static final long TAG_TRUE = 2;
+    private static final long TAG_FALSE = 3;
+    private static final long TAG_NUMBER = 4;
+    private static final long TAG_STRING = 5;
+    private static final long TAG_ARRAY = 6;
+    private static final long TAG_OBJECT = 7;
+
+    /*
+     * The stack of the arrays and objects being read. The accumulated hashes,
+     * the numbers of the elements, and the hashes of the current property names.
+     */
+    private long[] hashes1 = new long[INITIAL_CAPACITY];
+    private long[] hashes2 = new long[INITIAL_CAPACITY];
+    private long[] keys1 = new long[INITIAL_CAPACITY];
+    private long[] keys2 = new long[INITIAL_CAPACITY];
+    private int[] sizes = new int[INITIAL_CAPACITY];
+    private boolean[] objects = new boolean[INITIAL_CAPACITY];
+    private int depth;
+
+    private final long seed1;
+    private final long seed2;
+
+    private long lastHash1;
+    private long lastHash2;
+
+    /**
+     * Constructs this calculator with the seeds chosen at random.
+     */
+    public JsonInstanceHasher() {
+        this(SEED_SOURCE.nextLong(), SEED_SOURCE.nextLong());
+    }
+
+    /**
+     * Constructs this calculator with the specified seeds.
+     *
+     * @param seed1 the seed of the first hash.
+     * @param seed2 the seed of the second hash.
+     */
+    JsonInstanceHasher(long seed1, long seed2) {
+        this.seed1 = seed1;
+        this.seed2 = seed2;
+    }
+
+    /**
+     * Appends a new parser event.
+     *
+     * @param event  the event to append.
+     * @param parser the JSON parser.
+     * @return {@code true} if this calculator should be continued, or
+     *         {@code false} if the value is completed.
+     */
+    public boolean append(Event event, JsonParser parser) {
+        switch (event) {
+        case START_ARRAY:
+            push(false);
+            return true;
+        case START_OBJECT:
+            push(true);
+            return true;
+        case KEY_NAME:
+            String name = parser.getString();
+            if (depth == 0) {
+                // The property name itself is the value.
+                complete(hashString(name, seed1), hashString(name, seed2));
+                break;
+            }
+            keys1[depth - 1] = hashString(name, seed1);
+            keys2[depth - 1] = hashString(name, seed2);
+            return true;
+        case END_ARRAY:
+        case END_OBJECT:
+            --depth;
+            completeContainer(hashes1[depth], hashes2[depth], sizes[depth], objects[depth]);
+            break;
+        case VALUE_STRING:
+            String string = parser.getString();
+            complete(hashString(string, seed1), hashString(string, seed2));
+            break;
+        case VALUE_NUMBER:
+            BigDecimal number = parser.getBigDecimal();
+            complete(hashNumber(number, seed1), hashNumber(number, seed2));
+            break;
+        case VALUE_TRUE:
+            complete(hashLiteral(TAG_TRUE, seed1), hashLiteral(TAG_TRUE, seed2));
+            break;
+        case VALUE_FALSE:
+            complete(hashLiteral(TAG_FALSE, seed1), hashLiteral(TAG_FALSE, seed2));
+            break;
+        case VALUE_NULL:
+            complete(hashLiteral(TAG_NULL, seed1), hashLiteral(TAG_NULL, seed2));
+            break;
+        default:
+            assert false;
+            break;
+        }
+        return depth > 0;
+    }
+
+    /**
+     * Returns the digest of the value completed last.
+     *
+     * @return the digest of the value.
+     */
+    public Digest digest() {
+        return new Digest(lastHash1, lastHash2);
+    }
+
+    /**
+     * Computes the digest of the specified JSON value.
+     *
+     * @param value the JSON value, cannot be {@code null}.
+     * @return the digest of the value, the same as the one which would be computed
+     *         by this calculator from the parser events.
+     */
+    public Digest digest(JsonValue value) {
+        return new Digest(hashValue(value, seed1), hashValue(value, seed2));
+    }
+
+    private void push(boolean object) {
+        if (depth == sizes.length) {
+            final int newCapacity = depth * 2;
+            hashes1 = Arrays.copyOf(hashes1, newCapacity);
+            hashes2 = Arrays.copyOf(hashes2, newCapacity);
+            keys1 = Arrays.copyOf(keys1, newCapacity);
+            keys2 = Arrays.copyOf(keys2, newCapacity);
+            sizes = Arrays.copyOf(sizes, newCapacity);
+            objects = Arrays.copyOf(objects, newCapacity);
+        }
+        hashes1[depth] = 0;
+        hashes2[depth] = 0;
+        sizes[depth] = 0;
+        objects[depth] = object;
+        depth++;
+    }
+
+    private void completeContainer(long hash1, long hash2, int size, boolean object) {
+        if (object) {
+            complete(finishObject(hash1, size, seed1), finishObject(hash2, size, seed2));
+        } else {
+            complete(finishArray(hash1, size, seed1), finishArray(hash2, size, seed2));
+        }
+    }
+
+    private void complete(long hash1, long hash2) {
+        if (depth == 0) {
+            lastHash1 = hash1;
+            lastHash2 = hash2;
+            return;
+        }
+        final int top = depth - 1;
+        if (objects[top]) {
+            hashes1[top] = addMember(hashes1[top], keys1[top], hash1);
+            hashes2[top] = addMember(hashes2[top], keys2[top], hash2);
+        } else {
+            hashes1[top] = addItem(hashes1[top], hash1);
+            hashes2[top] = addItem(hashes2[top], hash2);
+        }
+        sizes[top]++;
+    }
+
+    /* Hash functions shared by the event-driven and the tree-driven hashing. */
+
+    private static long hashValue(JsonValue value, long seed) {
+        switch (value.getValueType()) {
+        case ARRAY:
+            JsonArray array = value.asJsonArray();
+            long arrayHash = 0;
+            for (JsonValue item : array) {
+                arrayHash = addItem(arrayHash, hashValue(item, seed));
+            }
+            return finishArray(arrayHash, array.size(), seed);
+        case OBJECT:
+            JsonObject object = value.asJsonObject();
+            long objectHash = 0;
+            for (Map.Entry<String, JsonValue> entry : object.entrySet()) {
+                objectHash = addMember(objectHash,
+                        hashString(entry.getKey(), seed),
+                        hashValue(entry.getValue(), seed));
+            }
+            return finishObject(objectHash, object.size(), seed);
+        case STRING:
+            return hashString(((JsonString) value).getString(), seed);
+        case NUMBER:
+            return hashNumber(((JsonNumber) value).bigDecimalValue(), seed);
+        case TRUE:
+            return hashLiteral(TAG_TRUE, seed);
+        case FALSE:
+            return hashLiteral(TAG_FALSE, seed);
+        default:
+            return hashLiteral(TAG_NULL, seed);
+        }
+    }
+
+    private static long addItem(long hash, long itemHash) {
+        return hash * 0x100000001b3L + itemHash;
+    }
+
+    private static long addMember(long hash, long keyHash, long valueHash) {
+        // Members are summed up so that their order does not matter.
+        return hash + mix(keyHash * 31 + valueHash);
+    }
+
+    private static long finishArray(long hash, int size, long seed) {
+        return mix(hash ^ seed ^ (TAG_ARRAY << 56) ^ size);
+    }
+
+    private static long finishObject(long hash, int size, long seed) {
+        return mix(hash ^ seed ^ (TAG_OBJECT << 56) ^ size);
+    }
+
+    private static long hashLiteral(long tag, long seed) {
+        return mix(seed ^ (tag << 56));
+    }
+
+    private static long hashString(String value, long seed) {
+        long hash = seed ^ (TAG_STRING << 56);
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(hash ^ length);
+    }
+
+    private static long hashNumber(BigDecimal value, long seed) {
+        BigDecimal normalized = value.stripTrailingZeros();
+        // The scale is scrambled with the seed, otherwise the numbers of adjacent
+        // scales could be made to collide regardless of the seed.
+        long hash = mix(seed ^ (TAG_NUMBER << 56) ^ normalized.scale());
+        if (normalized.precision() < 19) {
+            hash = hash * 0x100000001b3L + normalized.unscaledValue().longValue();
+        } else {
+            for (byte b : normalized.unscaledValue().toByteArray()) {
+                hash = (hash ^ b) * 0x100000001b3L;
+            }
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Scrambles the bits of the specified value.
+     *
+     * @param value the value to scramble.
+     * @return the scrambled value.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+
+    /**
+     * A digest of a JSON value.
+     *
+     * @author leadpony
+     */
+    public static final class Digest {
+
+        private final long hash1;
+        private final long hash2;
+
+        private Digest(long hash1, long hash2) {
+            this.hash1 = hash1;
+            this.hash2 = hash2;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (hash1 ^ (hash1 >>> 32));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Digest)) {
+                return false;
+            }
+            Digest other = (Digest) obj;
+            return hash1 == other.hash1 && hash2 == other.hash2;
+        }
+    }
+}
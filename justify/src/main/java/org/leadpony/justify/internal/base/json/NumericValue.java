@@ -0,0 +1,215 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.json;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.leadpony.justify.api.EvaluatorContext;
+
+/**
+ * A JSON number classified once for the numeric keywords. Comparisons and
+ * divisibility tests are done with {@code long} or {@code double} arithmetic
+ * when that is exact, and with {@link BigDecimal} otherwise.
+ *
+ * @author leadpony
+ */
+public final class NumericValue {
+
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final int MAX_DOUBLE_DIGITS = 17;
+    private static final int MAX_DOUBLE_SCALE = 340;
+    private static final long MAX_EXACT_LONG = 1L << 53;
+
+    private static final byte UNKNOWN = 0;
+    private static final byte EXACT = 1;
+    private static final byte INEXACT = 2;
+
+    private final BigDecimal decimal;
+    private final boolean integral;
+    private final boolean fitsLong;
+    private final long longValue;
+
+    private byte doubleState = UNKNOWN;
+    private double doubleValue;
+    private BigDecimal stripped;
+
+    /**
+     * A source of the number at the current parser event.
+     *
+     * @author leadpony
+     */
+    public interface Source {
+
+        /**
+         * Returns the number at the current parser event.
+         *
+         * @return the classified number, never be {@code null}.
+         */
+        NumericValue getNumericValue();
+    }
+
+    /**
+     * Returns the number at the current event of the context. The number is
+     * classified only once per event if the context is a {@link Source}.
+     *
+     * @param context the context of the current validation.
+     * @return the classified number.
+     */
+    public static NumericValue of(EvaluatorContext context) {
+        if (context instanceof Source) {
+            return ((Source) context).getNumericValue();
+        }
+        return new NumericValue(context.getDecimalValue());
+    }
+
+    /**
+     * Constructs this value.
+     *
+     * @param decimal the number to classify.
+     */
+    public NumericValue(BigDecimal decimal) {
+        this.decimal = decimal;
+        if (decimal.scale() <= 0) {
+            this.integral = true;
+        } else {
+            this.stripped = decimal.stripTrailingZeros();
+            this.integral = stripped.scale() <= 0;
+        }
+        this.fitsLong = integral
+                && (long) decimal.precision() - decimal.scale() <= MAX_LONG_DIGITS;
+        this.longValue = fitsLong ? decimal.longValue() : 0;
+    }
+
+    /**
+     * Returns this number as a {@link BigDecimal}.
+     *
+     * @return this number.
+     */
+    public BigDecimal decimalValue() {
+        return decimal;
+    }
+
+    /**
+     * Checks if this number has no fractional part.
+     *
+     * @return {@code true} if this number is an integer.
+     */
+    public boolean isIntegral() {
+        return integral;
+    }
+
+    /**
+     * Returns the scale of this number without trailing zeros.
+     *
+     * @return the scale of this number stripped of trailing zeros.
+     */
+    public int strippedScale() {
+        return getStripped().scale();
+    }
+
+    /**
+     * Compares this number with another one.
+     *
+     * @param other the number to compare with.
+     * @return negative, zero or positive if this number is less than, equal to,
+     *         or greater than the other.
+     */
+    public int compareTo(NumericValue other) {
+        if (fitsLong && other.fitsLong) {
+            return Long.compare(longValue, other.longValue);
+        }
+        if (isExactDouble() && other.isExactDouble()) {
+            return Double.compare(doubleValue, other.doubleValue);
+        }
+        return decimal.compareTo(other.decimal);
+    }
+
+    /**
+     * Checks if this number is a multiple of the given factor.
+     *
+     * <p>
+     * When {@code long} arithmetic is not exact, both numbers are written as
+     * {@code a * 10^-s} and {@code b * 10^-t} without trailing zeros. This number
+     * cannot be a multiple if {@code s > t}, and otherwise it is a multiple if and
+     * only if {@code a * 10^(t-s)} is divisible by {@code b}. The power is reduced
+     * modulo {@code b}, so the cost does not grow with the exponents.
+     * </p>
+     *
+     * @param factor the factor, must not be zero.
+     * @return {@code true} if this number is a multiple of the factor.
+     */
+    public boolean isMultipleOf(NumericValue factor) {
+        if (decimal.signum() == 0) {
+            return true;
+        }
+        if (fitsLong && factor.fitsLong) {
+            return longValue % factor.longValue == 0;
+        }
+        BigDecimal dividend = getStripped();
+        BigDecimal divisor = factor.getStripped();
+        long exponent = (long) divisor.scale() - dividend.scale();
+        if (exponent < 0) {
+            return false;
+        }
+        BigInteger modulus = divisor.unscaledValue().abs();
+        BigInteger remainder = dividend.unscaledValue();
+        if (exponent > 0) {
+            remainder = remainder.multiply(BigInteger.TEN.modPow(BigInteger.valueOf(exponent), modulus));
+        }
+        return remainder.mod(modulus).signum() == 0;
+    }
+
+    @Override
+    public String toString() {
+        return decimal.toString();
+    }
+
+    private boolean isExactDouble() {
+        if (doubleState == UNKNOWN) {
+            doubleState = classifyDouble() ? EXACT : INEXACT;
+        }
+        return doubleState == EXACT;
+    }
+
+    private boolean classifyDouble() {
+        if (fitsLong) {
+            if (longValue < -MAX_EXACT_LONG || longValue > MAX_EXACT_LONG) {
+                return false;
+            }
+            doubleValue = longValue;
+            return true;
+        }
+        int scale = decimal.scale();
+        if (decimal.precision() > MAX_DOUBLE_DIGITS || scale < -MAX_DOUBLE_SCALE || scale > MAX_DOUBLE_SCALE) {
+            return false;
+        }
+        // Adding zero turns negative zero into positive zero.
+        double value = decimal.doubleValue() + 0.0;
+        if (Double.isInfinite(value) || new BigDecimal(value).compareTo(decimal) != 0) {
+            return false;
+        }
+        doubleValue = value;
+        return true;
+    }
+
+    private BigDecimal getStripped() {
+        if (stripped == null) {
+            stripped = decimal.stripTrailingZeros();
+        }
+        return stripped;
+    }
+}
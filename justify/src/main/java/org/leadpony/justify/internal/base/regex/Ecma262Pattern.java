@@ -15,6 +15,7 @@
  */
 package org.leadpony.justify.internal.base.regex;
 
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
 /**
@@ -36,6 +37,63 @@ public final class Ecma262Pattern {
         return Pattern.compile(translated);
     }
 
+    /**
+     * Returns a predicate which finds the given pattern in strings without the
+     * regular expression engine. Such a predicate is available only when the
+     * pattern consists of literal characters, optionally anchored at the start
+     * and/or the end of the input.
+     *
+     * @param pattern the pattern compiled by {@link #compile(String)}.
+     * @return the predicate equivalent to {@link java.util.regex.Matcher#find()},
+     *         or {@code null} if the pattern is not a literal.
+     */
+    public static Predicate<String> toLiteralPredicate(Pattern pattern) {
+        if (pattern.flags() != 0) {
+            return null;
+        }
+        final String regex = pattern.pattern();
+        final int length = regex.length();
+        final StringBuilder literal = new StringBuilder(length);
+        boolean anchoredAtStart = false;
+        boolean anchoredAtEnd = false;
+        for (int i = 0; i < length; i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (++i >= length) {
+                    return null;
+                }
+                c = regex.charAt(i);
+                if (c == 'z' && i + 1 == length) {
+                    anchoredAtEnd = true;
+                } else if (c < 0x80 && !Character.isLetterOrDigit(c)) {
+                    literal.append(c);
+                } else {
+                    return null;
+                }
+            } else if (c == '^' && i == 0) {
+                anchoredAtStart = true;
+            } else if (isMetacharacter(c)) {
+                return null;
+            } else {
+                literal.append(c);
+            }
+        }
+        final String text = literal.toString();
+        if (anchoredAtStart) {
+            if (anchoredAtEnd) {
+                return text::equals;
+            }
+            return s -> s.startsWith(text);
+        } else if (anchoredAtEnd) {
+            return s -> s.endsWith(text);
+        }
+        return s -> s.contains(text);
+    }
+
+    private static boolean isMetacharacter(char c) {
+        return "$()*+.?[]^{|}".indexOf(c) >= 0;
+    }
+
     private static String translate(String regex) {
         StringBuilder builder = new StringBuilder();
         final int length = regex.length();
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.regex;
+
+import java.util.Collection;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * A set of patterns to be found in the same strings.
+ *
+ * <p>
+ * The patterns are analyzed once when this set is constructed. Patterns
+ * consisting only of literal characters are tested without the regular
+ * expression engine. For the other patterns, the longest literal which any
+ * match must contain is extracted, and the pattern is tried only if the string
+ * contains the literal. The ASCII characters of the string are collected in a
+ * single scan, which rules out most of the literals without searching for them.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class MultiPattern {
+
+    private final Pattern[] patterns;
+    // predicates for the patterns which are literals.
+    private final Predicate<String>[] literals;
+    // literals required by the patterns.
+    private final String[] required;
+    // ASCII characters contained in the required literals.
+    private final long[] lowMasks;
+    private final long[] highMasks;
+    private final boolean masked;
+
+    /**
+     * Constructs this set of patterns.
+     *
+     * @param patterns the patterns in the order to be reported.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public MultiPattern(Collection<Pattern> patterns) {
+        final int size = patterns.size();
+        this.patterns = patterns.toArray(new Pattern[size]);
+        this.literals = new Predicate[size];
+        this.required = new String[size];
+        this.lowMasks = new long[size];
+        this.highMasks = new long[size];
+        boolean masked = false;
+        for (int i = 0; i < size; i++) {
+            Pattern pattern = this.patterns[i];
+            literals[i] = Ecma262Pattern.toLiteralPredicate(pattern);
+            if (literals[i] != null) {
+                continue;
+            }
+            String literal = findRequiredLiteral(pattern);
+            if (literal != null && !literal.isEmpty()) {
+                required[i] = literal;
+                for (int j = 0; j < literal.length(); j++) {
+                    char c = literal.charAt(j);
+                    if (c < 64) {
+                        lowMasks[i] |= 1L << c;
+                    } else if (c < 128) {
+                        highMasks[i] |= 1L << (c - 64);
+                    }
+                }
+                masked = true;
+            }
+        }
+        this.masked = masked;
+    }
+
+    /**
+     * Finds all the patterns in the string.
+     *
+     * @param input  the string in which the patterns will be searched.
+     * @param action the action to be performed with the index of each pattern
+     *               found, in the order the patterns were given.
+     * @return {@code true} if any pattern was found, {@code false} otherwise.
+     */
+    public boolean findAll(String input, IntConsumer action) {
+        long low = 0;
+        long high = 0;
+        if (masked) {
+            for (int i = 0; i < input.length(); i++) {
+                char c = input.charAt(i);
+                if (c < 64) {
+                    low |= 1L << c;
+                } else if (c < 128) {
+                    high |= 1L << (c - 64);
+                }
+            }
+        }
+        boolean found = false;
+        for (int i = 0; i < patterns.length; i++) {
+            if (matches(i, input, low, high)) {
+                action.accept(i);
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    private boolean matches(int index, String input, long low, long high) {
+        if (literals[index] != null) {
+            return literals[index].test(input);
+        }
+        String literal = required[index];
+        if (literal != null) {
+            if ((lowMasks[index] & ~low) != 0 || (highMasks[index] & ~high) != 0) {
+                return false;
+            }
+            if (!input.contains(literal)) {
+                return false;
+            }
+        }
+        return patterns[index].matcher(input).find();
+    }
+
+    /**
+     * Finds the longest literal which any match of the pattern must contain.
+     * Only the literals outside of groups are considered, and nothing is
+     * extracted from the patterns with flags, alternatives or quotations.
+     *
+     * @param pattern the pattern to analyze.
+     * @return the literal found, or {@code null} if the pattern cannot be
+     *         analyzed.
+     */
+    static String findRequiredLiteral(Pattern pattern) {
+        final String regex = pattern.pattern();
+        if (pattern.flags() != 0
+                || regex.indexOf('|') >= 0
+                || regex.contains("(?")
+                || regex.contains("\\Q")) {
+            return null;
+        }
+        final int length = regex.length();
+        final StringBuilder run = new StringBuilder();
+        String longest = "";
+        int depth = 0;
+        for (int i = 0; i < length; i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (++i >= length) {
+                    return null;
+                }
+                c = regex.charAt(i);
+                if (depth == 0 && c < 0x80 && !Character.isLetterOrDigit(c)) {
+                    run.append(c);
+                    continue;
+                }
+                // The parameters of the escape are not literals.
+                i = skipEscapeParameters(regex, i);
+                if (i < 0) {
+                    return null;
+                }
+            } else if (c == '[') {
+                i = skipCharacterClass(regex, i);
+                if (i < 0) {
+                    return null;
+                }
+            } else if (c == '(') {
+                ++depth;
+            } else if (c == ')') {
+                --depth;
+            } else if (depth > 0) {
+                continue;
+            } else if (c == '?' || c == '*' || c == '{') {
+                // The last character may not appear.
+                if (run.length() > 0) {
+                    run.setLength(run.length() - 1);
+                }
+                if (c == '{') {
+                    i = regex.indexOf('}', i);
+                    if (i < 0) {
+                        return null;
+                    }
+                }
+            } else if ("$+.^]}".indexOf(c) < 0) {
+                run.append(c);
+                continue;
+            }
+            if (run.length() > longest.length()) {
+                longest = run.toString();
+            }
+            run.setLength(0);
+        }
+        if (run.length() > longest.length()) {
+            longest = run.toString();
+        }
+        return longest;
+    }
+
+    /**
+     * Skips the parameters of an escape sequence, such as the hexadecimal digits
+     * of a Unicode escape or the name of a named back reference.
+     *
+     * @param regex the regular expression.
+     * @param start the index of the character following the backslash.
+     * @return the index of the last character of the escape sequence, or -1 if
+     *         the escape sequence is not understood.
+     */
+    private static int skipEscapeParameters(String regex, int start) {
+        final int length = regex.length();
+        char c = regex.charAt(start);
+        int next = start + 1;
+        switch (c) {
+        case 'u':
+        case 'x':
+            if (next < length && regex.charAt(next) == '{') {
+                return regex.indexOf('}', next);
+            }
+            next += (c == 'u') ? 4 : 2;
+            return (next <= length) ? next - 1 : -1;
+        case 'c':
+            return (next < length) ? next : -1;
+        case 'p':
+        case 'P':
+        case 'N':
+            if (next < length && regex.charAt(next) == '{') {
+                return regex.indexOf('}', next);
+            }
+            return (c == 'N' || next >= length) ? -1 : next;
+        case 'k':
+            if (next < length && regex.charAt(next) == '<') {
+                return regex.indexOf('>', next);
+            }
+            return -1;
+        default:
+            if (c >= '0' && c <= '9') {
+                // Octal escapes and back references.
+                while (next < length && Character.isDigit(regex.charAt(next))) {
+                    ++next;
+                }
+                return next - 1;
+            }
+            return start;
+        }
+    }
+
+    /**
+     * Skips a character class.
+     *
+     * @param regex the regular expression.
+     * @param start the index of the opening bracket.
+     * @return the index of the closing bracket, or -1 if the class is not
+     *         understood.
+     */
+    private static int skipCharacterClass(String regex, int start) {
+        int i = start + 1;
+        if (i < regex.length() && regex.charAt(i) == '^') {
+            ++i;
+        }
+        if (i < regex.length() && regex.charAt(i) == ']') {
+            return -1;
+        }
+        int level = 1;
+        for (; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                ++i;
+            } else if (c == '[') {
+                ++level;
+            } else if (c == ']') {
+                if (--level == 0) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+}
@@ -30,11 +30,13 @@ import org.leadpony.justify.api.ProblemDispatcher;
  */
 public abstract class AbstractConjunctiveItemsEvaluator extends AbstractLogicalEvaluator implements ChildrenEvaluator {
 
+    private final boolean failFast;
     private Result finalResult = Result.TRUE;
     private Evaluator childEvaluator;
 
     protected AbstractConjunctiveItemsEvaluator(EvaluatorContext context) {
         super(context);
+        this.failFast = context.isFailFast();
     }
 
     @Override
@@ -50,16 +52,27 @@ public abstract class AbstractConjunctiveItemsEvaluator extends AbstractLogicalE
         if (childEvaluator != null) {
             Result result = childEvaluator.evaluate(event, depth - 1, dispatcher);
             if (result != Result.PENDING) {
+                childEvaluator = null;
                 if (result == Result.FALSE) {
+                    if (failFast) {
+                        return Result.FALSE;
+                    }
                     finalResult = Result.FALSE;
                 }
-                childEvaluator = null;
             }
         }
 
         return Result.PENDING;
     }
 
+    @Override
+    public boolean ignoresSubtree(int depth) {
+        if (depth == 0) {
+            return false;
+        }
+        return childEvaluator == null || childEvaluator.ignoresSubtree(depth - 1);
+    }
+
     @Override
     public void append(Evaluator evaluator) {
         if (evaluator == Evaluator.ALWAYS_TRUE) {
@@ -35,12 +35,14 @@ import org.leadpony.justify.api.ProblemDispatcher;
 public abstract class AbstractConjunctivePropertiesEvaluator extends AbstractLogicalEvaluator
         implements ChildrenEvaluator {
 
+    private final boolean failFast;
     private Result finalResult = Result.TRUE;
     private Evaluator firstChildEvaluator;
     private List<Evaluator> additionalChildEvaluators;
 
     protected AbstractConjunctivePropertiesEvaluator(EvaluatorContext context) {
         super(context);
+        this.failFast = context.isFailFast();
     }
 
     @Override
@@ -71,11 +73,35 @@ public abstract class AbstractConjunctivePropertiesEvaluator extends AbstractLog
                     firstChildEvaluator = additionalChildEvaluators.remove(0);
                 }
             }
+
+            if (failFast && finalResult == Result.FALSE) {
+                return Result.FALSE;
+            }
         }
 
         return Result.PENDING;
     }
 
+    @Override
+    public boolean ignoresSubtree(int depth) {
+        if (depth == 0) {
+            return false;
+        }
+        if (firstChildEvaluator != null) {
+            if (!firstChildEvaluator.ignoresSubtree(depth - 1)) {
+                return false;
+            }
+            if (additionalChildEvaluators != null) {
+                for (Evaluator child : additionalChildEvaluators) {
+                    if (!child.ignoresSubtree(depth - 1)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
     @Override
     public void append(Evaluator evaluator) {
         if (evaluator == Evaluator.ALWAYS_TRUE) {
@@ -41,6 +41,14 @@ abstract class AbstractDisjunctiveChildrenEvaluator extends DisjunctiveEvaluator
         return super.evaluate(event, depth, dispatcher);
     }
 
+    @Override
+    public boolean ignoresSubtree(int depth) {
+        if (depth == 0) {
+            return false;
+        }
+        return operandsIgnoreSubtree(depth - 1);
+    }
+
     @Override
     protected Result invokeOperandEvaluators(Event event, int depth, ProblemDispatcher dispatcher) {
         if (depth > 0) {
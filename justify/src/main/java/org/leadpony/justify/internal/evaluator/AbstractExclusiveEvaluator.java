@@ -24,6 +24,7 @@ import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 import org.leadpony.justify.internal.problem.ProblemList;
+import org.leadpony.justify.internal.problem.SilentProblemDispatcher;
 
 /**
  * Skeletal implementation for {@link ExclusiveEvaluator} and {@link SimpleExclusiveEvaluator}.
@@ -36,6 +37,9 @@ abstract class AbstractExclusiveEvaluator extends AbstractLogicalEvaluator {
     }
 
     protected void dispatchProblems(ProblemDispatcher dispatcher, List<ProblemList> problemLists) {
+        if (dispatcher == SilentProblemDispatcher.SINGLETON) {
+            return;
+        }
         List<ProblemList> filteredLists = problemLists.stream()
                 .filter(ProblemList::isResolvable)
                 .collect(Collectors.toList());
@@ -49,6 +53,9 @@ abstract class AbstractExclusiveEvaluator extends AbstractLogicalEvaluator {
     }
 
     protected void dispatchNegatedProblems(ProblemDispatcher dispatcher, List<ProblemList> problemLists) {
+        if (dispatcher == SilentProblemDispatcher.SINGLETON) {
+            return;
+        }
         ProblemBuilder builder = createProblemBuilder(getContext())
                 .withMessage(Message.INSTANCE_PROBLEM_ONEOF_MANY)
                 .withBranches(problemLists);
@@ -72,6 +72,22 @@ public class ConditionalEvaluator extends AbstractEvaluator {
         return Result.PENDING;
     }
 
+    @Override
+    public boolean ignoresSubtree(int depth) {
+        if (ifResult == Result.PENDING && !ifEvaluator.ignoresSubtree(depth)) {
+            return false;
+        }
+        if (ifResult != Result.FALSE && thenResult == Result.PENDING
+                && !thenEvaluator.ignoresSubtree(depth)) {
+            return false;
+        }
+        if (ifResult != Result.TRUE && elseResult == Result.PENDING
+                && !elseEvaluator.ignoresSubtree(depth)) {
+            return false;
+        }
+        return true;
+    }
+
     private Result updateEvaluation(Result result, Evaluator evaluator, Event event, int depth,
             ProblemDispatcher dispatcher) {
         if (result == Result.PENDING) {
@@ -82,7 +98,7 @@ public class ConditionalEvaluator extends AbstractEvaluator {
     }
 
     private Result finalizeEvaluation(Result result, DeferredEvaluator evaluator, ProblemDispatcher dispatcher) {
-        if (result == Result.FALSE) {
+        if (result == Result.FALSE && evaluator.problems() != null) {
             evaluator.problems().forEach(problem -> dispatcher.dispatchProblem(problem));
         }
         return result;
@@ -33,13 +33,17 @@ class ConjunctiveEvaluator extends SimpleConjunctiveEvaluator {
     private final Event closingEvent;
     private Result finalResult = Result.TRUE;
 
-    ConjunctiveEvaluator(Event closingEvent) {
+    ConjunctiveEvaluator(Event closingEvent, boolean failFast) {
+        super(failFast);
         this.closingEvent = closingEvent;
     }
 
     @Override
     public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
         invokeOperandEvaluators(event, depth, dispatcher);
+        if (finalResult == Result.FALSE && isFailFast()) {
+            return Result.FALSE;
+        }
         if (depth == 0 && event == closingEvent) {
             return finalResult;
         }
@@ -51,12 +55,21 @@ class ConjunctiveEvaluator extends SimpleConjunctiveEvaluator {
         while (it.hasNext()) {
             Result result = it.next().evaluate(event, depth, dispatcher);
             if (result != Result.PENDING) {
+                it.remove();
                 if (result == Result.FALSE) {
                     finalResult = Result.FALSE;
+                    if (isFailFast()) {
+                        break;
+                    }
                 }
-                it.remove();
             }
         }
         return Result.PENDING;
     }
+
+    @Override
+    public boolean ignoresSubtree(int depth) {
+        // The closing event is required to determine the final result.
+        return depth > 0 && super.ignoresSubtree(depth);
+    }
 }
@@ -25,6 +25,7 @@ import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.internal.problem.DefaultProblemDispatcher;
 import org.leadpony.justify.internal.problem.ProblemList;
+import org.leadpony.justify.internal.problem.SilentProblemDispatcher;
 
 /**
  * Evaluator which retains the found problems and dispatches them later.
@@ -47,9 +48,23 @@ class DeferredEvaluator implements Evaluator, DefaultProblemDispatcher {
 
     @Override
     public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
+        if (dispatcher == SilentProblemDispatcher.SINGLETON) {
+            // No need to retain the problems which will be discarded.
+            return evaluator.evaluate(event, depth, dispatcher);
+        }
         return evaluator.evaluate(event, depth, this);
     }
 
+    @Override
+    public boolean isAlwaysFalse() {
+        return evaluator.isAlwaysFalse();
+    }
+
+    @Override
+    public boolean ignoresSubtree(int depth) {
+        return evaluator.ignoresSubtree(depth);
+    }
+
     @Override
     public void dispatchProblem(Problem problem) {
         requireNonNull(problem, "problem");
@@ -71,7 +86,8 @@ class DeferredEvaluator implements Evaluator, DefaultProblemDispatcher {
     /**
      * Returns the problems found by this evaluator.
      *
-     * @return the problems found by this evaluator.
+     * @return the problems found by this evaluator, or {@code null} if no
+     *         problems were retained.
      */
     ProblemList problems() {
         return this.problems;
@@ -62,4 +62,10 @@ class DisjunctiveEvaluator extends SimpleDisjunctiveEvaluator {
         }
         return Result.PENDING;
     }
+
+    @Override
+    public boolean ignoresSubtree(int depth) {
+        // The closing event is required to determine the final result.
+        return depth > 0 && operandsIgnoreSubtree(depth);
+    }
 }
@@ -16,6 +16,8 @@
 
 package org.leadpony.justify.internal.evaluator;
 
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import javax.json.stream.JsonParser.Event;
@@ -58,14 +60,28 @@ public final class Evaluators {
         };
     }
 
-    public static LogicalEvaluator conjunctive(InstanceType type) {
+    /**
+     * Creates an evaluator of the subschema which is known to evaluate the current
+     * instance as false. The actual evaluator is created by the specified supplier
+     * only when the problems found by it are needed.
+     *
+     * @param context  the context of the evaluator to be created.
+     * @param supplier the supplier of the actual evaluator.
+     * @return newly created evaluator. It must not be {@code null}.
+     */
+    public static Evaluator excluded(EvaluatorContext context, Supplier<Evaluator> supplier) {
+        return new ExcludedEvaluator(context, supplier);
+    }
+
+    public static LogicalEvaluator conjunctive(EvaluatorContext context, InstanceType type) {
+        final boolean failFast = context.isFailFast();
         switch (type) {
         case ARRAY:
-            return new ConjunctiveEvaluator(Event.END_ARRAY);
+            return new ConjunctiveEvaluator(Event.END_ARRAY, failFast);
         case OBJECT:
-            return new ConjunctiveEvaluator(Event.END_OBJECT);
+            return new ConjunctiveEvaluator(Event.END_OBJECT, failFast);
         default:
-            return new SimpleConjunctiveEvaluator();
+            return new SimpleConjunctiveEvaluator(failFast);
         }
     }
 
@@ -81,7 +97,7 @@ public final class Evaluators {
     }
 
     public static LogicalEvaluator exclusive(EvaluatorContext context, InstanceType type, Stream<Evaluator> operands,
-            Stream<Evaluator> negated) {
+            Function<EvaluatorContext, Stream<Evaluator>> negated) {
         switch (type) {
         case ARRAY:
             return new ExclusiveEvaluator(context, Event.END_ARRAY, operands, negated);
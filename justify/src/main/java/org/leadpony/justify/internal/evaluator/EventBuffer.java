@@ -0,0 +1,390 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.evaluator;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import javax.json.JsonBuilderFactory;
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonLocation;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.Evaluator.Result;
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.ProblemDispatcher;
+import org.leadpony.justify.internal.base.json.DefaultPointerAwareJsonParser;
+import org.leadpony.justify.internal.base.json.NumericValue;
+import org.leadpony.justify.internal.base.json.SimpleJsonLocation;
+
+/**
+ * A bounded buffer of parser events, which also serves as the context of the
+ * evaluators receiving the buffered events later.
+ *
+ * <p>
+ * While the events are replayed, the values at the current event are provided
+ * from this buffer. Otherwise all requests are delegated to the context of the
+ * validation. The buffer which reports problems also keeps the locations of the
+ * events, and tracks the JSON pointers of the replayed events from the pointer
+ * of the first event.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class EventBuffer implements EvaluatorContext, NumericValue.Source, SharedEvaluators.Source {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final EvaluatorContext context;
+    private final int limit;
+    private final boolean reportsProblems;
+    private final ReplayingParser parser = new ReplayingParser();
+
+    private Event[] events = new Event[INITIAL_CAPACITY];
+    private int[] depths = new int[INITIAL_CAPACITY];
+    // Strings or numbers at the buffered events.
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private boolean[] integrals = new boolean[INITIAL_CAPACITY];
+    private JsonLocation[] locations;
+    private int size;
+    private String firstPointer;
+    private PointerTracker pointerTracker;
+    private SharedEvaluators sharedEvaluators;
+
+    // The index of the event replayed currently, or -1 if not replaying.
+    private int current = -1;
+
+    /**
+     * Constructs this buffer.
+     *
+     * @param context         the context of the validation.
+     * @param limit           the maximum number of events to buffer.
+     * @param reportsProblems {@code true} if the evaluators receiving the
+     *                        replayed events report problems.
+     */
+    public EventBuffer(EvaluatorContext context, int limit, boolean reportsProblems) {
+        this.context = context;
+        this.limit = limit;
+        this.reportsProblems = reportsProblems;
+        if (reportsProblems) {
+            this.locations = new JsonLocation[INITIAL_CAPACITY];
+        }
+    }
+
+    /**
+     * Appends the current event of the validation.
+     *
+     * @param event the current event.
+     * @param depth the depth of the event.
+     * @return {@code true} if the event was added, {@code false} if this buffer
+     *         is already full.
+     */
+    public boolean add(Event event, int depth) {
+        if (size == limit) {
+            return false;
+        }
+        if (size == events.length) {
+            int newCapacity = Math.min(size * 2, limit);
+            events = Arrays.copyOf(events, newCapacity);
+            depths = Arrays.copyOf(depths, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+            integrals = Arrays.copyOf(integrals, newCapacity);
+            if (reportsProblems) {
+                locations = Arrays.copyOf(locations, newCapacity);
+            }
+        }
+        if (reportsProblems) {
+            if (size == 0) {
+                firstPointer = context.getPointer();
+            }
+            // The location is copied because the parser may reuse the instance.
+            JsonLocation location = context.getParser().getLocation();
+            locations[size] = new SimpleJsonLocation(location.getLineNumber(),
+                    location.getColumnNumber(), location.getStreamOffset());
+        }
+        events[size] = event;
+        depths[size] = depth;
+        if (event == Event.KEY_NAME || event == Event.VALUE_STRING) {
+            values[size] = context.getStringValue();
+        } else if (event == Event.VALUE_NUMBER) {
+            values[size] = NumericValue.of(context);
+            integrals[size] = context.getParser().isIntegralNumber();
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Starts replaying the buffered events. The evaluators which will receive the
+     * events should be created after this call, at the first event.
+     */
+    public void startReplay() {
+        current = 0;
+        if (reportsProblems && firstPointer != null) {
+            pointerTracker = new PointerTracker();
+            pointerTracker.track(events[0]);
+        }
+    }
+
+    /**
+     * Replays all the buffered events to the specified evaluator. After this
+     * call, the values at the current event are provided by the validation
+     * itself.
+     *
+     * @param evaluator  the evaluator to receive the events.
+     * @param dispatcher the dispatcher of the problems found.
+     * @return the result of the evaluator at the last event replayed.
+     */
+    public Result replay(Evaluator evaluator, ProblemDispatcher dispatcher) {
+        Result result = Result.PENDING;
+        for (current = 0; current < size; current++) {
+            if (current > 0) {
+                if (pointerTracker != null) {
+                    pointerTracker.track(events[current]);
+                }
+                if (sharedEvaluators != null) {
+                    sharedEvaluators.clear();
+                }
+            }
+            result = evaluator.evaluate(events[current], depths[current], dispatcher);
+            if (result != Result.PENDING) {
+                break;
+            }
+        }
+        current = -1;
+        events = null;
+        depths = null;
+        values = null;
+        integrals = null;
+        locations = null;
+        pointerTracker = null;
+        sharedEvaluators = null;
+        return result;
+    }
+
+    /* EvaluatorContext */
+
+    @Override
+    public JsonParser getParser() {
+        return parser;
+    }
+
+    @Override
+    public String getStringValue() {
+        if (current < 0) {
+            return context.getStringValue();
+        }
+        return (String) values[current];
+    }
+
+    @Override
+    public BigDecimal getDecimalValue() {
+        return getNumericValue().decimalValue();
+    }
+
+    @Override
+    public JsonValue getScalarValue() {
+        if (current < 0) {
+            return context.getScalarValue();
+        }
+        return getReplayedValue();
+    }
+
+    @Override
+    public String getPointer() {
+        if (current < 0) {
+            return context.getPointer();
+        } else if (pointerTracker == null) {
+            return firstPointer;
+        }
+        return firstPointer + pointerTracker.getPointer();
+    }
+
+    @Override
+    public JsonProvider getJsonProvider() {
+        return context.getJsonProvider();
+    }
+
+    @Override
+    public JsonBuilderFactory getJsonBuilderFactory() {
+        return context.getJsonBuilderFactory();
+    }
+
+    @Override
+    public boolean acceptsDefaultValues() {
+        return context.acceptsDefaultValues();
+    }
+
+    @Override
+    public boolean isFailFast() {
+        return context.isFailFast();
+    }
+
+    @Override
+    public void putDefaultProperties(Map<String, JsonValue> properties) {
+        context.putDefaultProperties(properties);
+    }
+
+    @Override
+    public void putDefaultItems(List<JsonValue> items) {
+        context.putDefaultItems(items);
+    }
+
+    /* NumericValue.Source */
+
+    @Override
+    public NumericValue getNumericValue() {
+        if (current < 0) {
+            return NumericValue.of(context);
+        }
+        return (NumericValue) values[current];
+    }
+
+    /* SharedEvaluators.Source */
+
+    @Override
+    public SharedEvaluators getSharedEvaluators() {
+        if (current < 0) {
+            return SharedEvaluators.of(context);
+        }
+        if (acceptsDefaultValues()) {
+            return null;
+        }
+        if (sharedEvaluators == null) {
+            sharedEvaluators = new SharedEvaluators();
+        }
+        return sharedEvaluators;
+    }
+
+    private JsonValue getReplayedValue() {
+        switch (events[current]) {
+        case KEY_NAME:
+        case VALUE_STRING:
+            return getJsonProvider().createValue(getStringValue());
+        case VALUE_NUMBER:
+            return getJsonProvider().createValue(getDecimalValue());
+        case VALUE_TRUE:
+            return JsonValue.TRUE;
+        case VALUE_FALSE:
+            return JsonValue.FALSE;
+        case VALUE_NULL:
+            return JsonValue.NULL;
+        default:
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * A parser which provides the values at the replayed events.
+     *
+     * @author leadpony
+     */
+    private final class ReplayingParser implements JsonParser {
+
+        @Override
+        public boolean hasNext() {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public Event next() {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public String getString() {
+            if (current < 0) {
+                return context.getParser().getString();
+            }
+            return getStringValue();
+        }
+
+        @Override
+        public boolean isIntegralNumber() {
+            if (current < 0) {
+                return context.getParser().isIntegralNumber();
+            }
+            return integrals[current];
+        }
+
+        @Override
+        public int getInt() {
+            if (current < 0) {
+                return context.getParser().getInt();
+            }
+            return getDecimalValue().intValue();
+        }
+
+        @Override
+        public long getLong() {
+            if (current < 0) {
+                return context.getParser().getLong();
+            }
+            return getDecimalValue().longValue();
+        }
+
+        @Override
+        public BigDecimal getBigDecimal() {
+            if (current < 0) {
+                return context.getParser().getBigDecimal();
+            }
+            return getDecimalValue();
+        }
+
+        @Override
+        public JsonValue getValue() {
+            if (current < 0) {
+                return context.getParser().getValue();
+            }
+            return getReplayedValue();
+        }
+
+        @Override
+        public JsonLocation getLocation() {
+            if (current < 0 || locations == null) {
+                return context.getParser().getLocation();
+            }
+            return locations[current];
+        }
+
+        @Override
+        public void close() {
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * A tracker of the JSON pointers relative to the first event replayed.
+     *
+     * @author leadpony
+     */
+    private final class PointerTracker extends DefaultPointerAwareJsonParser {
+
+        PointerTracker() {
+            super(parser, context.getJsonProvider());
+        }
+
+        void track(Event event) {
+            process(event);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.evaluator;
+
+import java.util.function.Supplier;
+
+import javax.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.ProblemDispatcher;
+import org.leadpony.justify.internal.problem.SilentProblemDispatcher;
+
+/**
+ * An evaluator of a subschema which was found to be unsatisfiable by the
+ * instance before any evaluation.
+ *
+ * <p>
+ * The actual evaluator is created only when its problems must be reported.
+ * </p>
+ *
+ * @author leadpony
+ */
+class ExcludedEvaluator implements Evaluator {
+
+    private final Supplier<Evaluator> supplier;
+    private final boolean silentlyFalse;
+    private Evaluator real;
+
+    ExcludedEvaluator(EvaluatorContext context, Supplier<Evaluator> supplier) {
+        this.supplier = supplier;
+        // Default values may be supplied even by the subschemas evaluated as false.
+        this.silentlyFalse = !context.acceptsDefaultValues();
+    }
+
+    @Override
+    public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
+        if (real == null) {
+            if (silentlyFalse && dispatcher == SilentProblemDispatcher.SINGLETON) {
+                return Result.FALSE;
+            }
+            real = supplier.get();
+        }
+        return real.evaluate(event, depth, dispatcher);
+    }
+
+    @Override
+    public boolean isAlwaysFalse() {
+        return true;
+    }
+
+    @Override
+    public boolean ignoresSubtree(int depth) {
+        return real != null && real.ignoresSubtree(depth);
+    }
+}
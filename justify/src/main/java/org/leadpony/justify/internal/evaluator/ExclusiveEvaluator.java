@@ -19,6 +19,7 @@ package org.leadpony.justify.internal.evaluator;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -28,35 +29,70 @@ import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.internal.problem.ProblemList;
+import org.leadpony.justify.internal.problem.SilentProblemDispatcher;
 
 /**
  * Evaluator for "oneOf" boolean logic.
  *
+ * <p>
+ * The negated operands are needed only for reporting problems when two or more
+ * operands are evaluated as true. They are therefore created on demand and
+ * receive the events recorded so far before the subsequent events.
+ * </p>
+ *
  * @author leadpony
  */
 class ExclusiveEvaluator extends AbstractExclusiveEvaluator {
 
+    /*
+     * The maximum number of events to record for the negated operands. When
+     * exceeded, the negated operands are created at that point and evaluated in
+     * parallel with the operands.
+     */
+    private static final int MAX_RECORDED_EVENTS = 1024;
+
     private final List<DeferredEvaluator> operands;
-    private final List<DeferredEvaluator> negated;
+    private final Function<EvaluatorContext, Stream<Evaluator>> negatedFactory;
+    private List<DeferredEvaluator> negated;
+    private EventBuffer recorder;
     private List<ProblemList> problemLists;
     private List<ProblemList> negatedProblemLists;
     private long evaluationsAsTrue;
     private final Event closingEvent;
 
     ExclusiveEvaluator(EvaluatorContext context, Event closingEvent, Stream<Evaluator> operands,
-            Stream<Evaluator> negated) {
+            Function<EvaluatorContext, Stream<Evaluator>> negated) {
         super(context);
         this.operands = createEvaluators(operands);
-        this.negated = createEvaluators(negated);
+        this.negatedFactory = negated;
         this.closingEvent = closingEvent;
     }
 
     @Override
     public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
-        if (evaluationsAsTrue <= 1) {
-            evaluateAll(event, depth, dispatcher);
+        if (dispatcher == SilentProblemDispatcher.SINGLETON) {
+            return evaluateSilently(event, depth, dispatcher);
+        }
+        if (negated == null) {
+            if (recorder == null) {
+                recorder = new EventBuffer(getContext(), MAX_RECORDED_EVENTS, true);
+            }
+            boolean recorded = recorder.add(event, depth);
+            if (evaluationsAsTrue <= 1) {
+                evaluateAll(event, depth, dispatcher);
+            }
+            if (evaluationsAsTrue > 1 || !recorded) {
+                replayNegated(dispatcher);
+                if (!recorded) {
+                    evaluateAllNegated(event, depth, dispatcher);
+                }
+            }
+        } else {
+            if (evaluationsAsTrue <= 1) {
+                evaluateAll(event, depth, dispatcher);
+            }
+            evaluateAllNegated(event, depth, dispatcher);
         }
-        evaluateAllNegated(event, depth, dispatcher);
         if (depth == 0 && event == closingEvent) {
             if (evaluationsAsTrue == 0) {
                 dispatchProblems(dispatcher, problemLists);
@@ -70,6 +106,39 @@ class ExclusiveEvaluator extends AbstractExclusiveEvaluator {
         return Result.PENDING;
     }
 
+    @Override
+    public boolean ignoresSubtree(int depth) {
+        // The closing event is required to determine the final result.
+        if (depth == 0 || recorder != null) {
+            return false;
+        }
+        return ignoresSubtree(operands, depth) && (negated == null || ignoresSubtree(negated, depth));
+    }
+
+    private static boolean ignoresSubtree(List<DeferredEvaluator> evaluators, int depth) {
+        for (DeferredEvaluator evaluator : evaluators) {
+            if (!evaluator.ignoresSubtree(depth)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Evaluates the operands without the negated ones, which are needed only
+     * for reporting problems.
+     */
+    private Result evaluateSilently(Event event, int depth, ProblemDispatcher dispatcher) {
+        evaluateAll(event, depth, dispatcher);
+        if (evaluationsAsTrue > 1) {
+            return Result.FALSE;
+        }
+        if (depth == 0 && event == closingEvent) {
+            return (evaluationsAsTrue == 1) ? Result.TRUE : Result.FALSE;
+        }
+        return Result.PENDING;
+    }
+
     private void evaluateAll(Event event, int depth, ProblemDispatcher dispatcher) {
         Iterator<DeferredEvaluator> it = operands.iterator();
         while (it.hasNext()) {
@@ -86,6 +155,21 @@ class ExclusiveEvaluator extends AbstractExclusiveEvaluator {
         }
     }
 
+    /**
+     * Creates the negated operands and lets them catch up with the recorded
+     * events.
+     */
+    private void replayNegated(ProblemDispatcher dispatcher) {
+        EventBuffer recorded = this.recorder;
+        this.recorder = null;
+        recorded.startReplay();
+        this.negated = createEvaluators(negatedFactory.apply(recorded));
+        recorded.replay((event, depth, d) -> {
+            evaluateAllNegated(event, depth, d);
+            return Result.PENDING;
+        }, dispatcher);
+    }
+
     private void evaluateAllNegated(Event event, int depth, ProblemDispatcher dispatcher) {
         Iterator<DeferredEvaluator> it = negated.iterator();
         while (it.hasNext()) {
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.evaluator;
+
+import java.util.function.Function;
+
+import javax.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.ProblemDispatcher;
+import org.leadpony.justify.internal.problem.SilentProblemDispatcher;
+
+/**
+ * Combination evaluator of if/then/else which evaluates only the branch
+ * selected by the result of "if".
+ *
+ * <p>
+ * The events of an array or object are recorded until "if" is resolved, and
+ * then replayed to the evaluator of the selected branch. If too many events are
+ * recorded, all of "if", "then" and "else" are evaluated in parallel as
+ * {@link ConditionalEvaluator} does.
+ * </p>
+ *
+ * @author leadpony
+ */
+public class LazyConditionalEvaluator extends AbstractEvaluator {
+
+    /*
+     * The maximum number of events to record until "if" is resolved.
+     */
+    private static final int MAX_RECORDED_EVENTS = 1024;
+
+    private final Function<EvaluatorContext, Evaluator> ifFactory;
+    private final Function<EvaluatorContext, Evaluator> thenFactory;
+    private final Function<EvaluatorContext, Evaluator> elseFactory;
+
+    private Evaluator ifEvaluator;
+    private EventBuffer recorder;
+    private DeferredEvaluator branchEvaluator;
+    private Evaluator parallelEvaluator;
+
+    public LazyConditionalEvaluator(EvaluatorContext context,
+            Function<EvaluatorContext, Evaluator> ifFactory,
+            Function<EvaluatorContext, Evaluator> thenFactory,
+            Function<EvaluatorContext, Evaluator> elseFactory) {
+        super(context);
+        this.ifFactory = ifFactory;
+        this.thenFactory = thenFactory;
+        this.elseFactory = elseFactory;
+        this.ifEvaluator = ifFactory.apply(context);
+    }
+
+    @Override
+    public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
+        if (branchEvaluator != null) {
+            return finalizeEvaluation(branchEvaluator.evaluate(event, depth, dispatcher), dispatcher);
+        } else if (parallelEvaluator != null) {
+            return parallelEvaluator.evaluate(event, depth, dispatcher);
+        }
+
+        Result ifResult = ifEvaluator.evaluate(event, depth, SilentProblemDispatcher.SINGLETON);
+        if (ifResult == Result.PENDING) {
+            if (recorder == null) {
+                recorder = new EventBuffer(getContext(), MAX_RECORDED_EVENTS,
+                        dispatcher != SilentProblemDispatcher.SINGLETON);
+            }
+            if (recorder.add(event, depth)) {
+                return Result.PENDING;
+            }
+            return evaluateInParallel(event, depth, dispatcher);
+        }
+
+        ifEvaluator = null;
+        Function<EvaluatorContext, Evaluator> factory = (ifResult == Result.TRUE) ? thenFactory : elseFactory;
+        if (recorder == null) {
+            branchEvaluator = new DeferredEvaluator(factory.apply(getContext()));
+            return finalizeEvaluation(branchEvaluator.evaluate(event, depth, dispatcher), dispatcher);
+        }
+
+        EventBuffer recorded = this.recorder;
+        this.recorder = null;
+        boolean added = recorded.add(event, depth);
+        recorded.startReplay();
+        branchEvaluator = new DeferredEvaluator(factory.apply(recorded));
+        Result result = recorded.replay(branchEvaluator, dispatcher);
+        if (result == Result.PENDING && !added) {
+            result = branchEvaluator.evaluate(event, depth, dispatcher);
+        }
+        return finalizeEvaluation(result, dispatcher);
+    }
+
+    @Override
+    public boolean ignoresSubtree(int depth) {
+        if (branchEvaluator != null) {
+            return branchEvaluator.ignoresSubtree(depth);
+        } else if (parallelEvaluator != null) {
+            return parallelEvaluator.ignoresSubtree(depth);
+        }
+        // All events are needed by the branch not selected yet.
+        return false;
+    }
+
+    /**
+     * Evaluates all of "if", "then" and "else" from the recorded events.
+     */
+    private Result evaluateInParallel(Event event, int depth, ProblemDispatcher dispatcher) {
+        EventBuffer recorded = this.recorder;
+        this.recorder = null;
+        this.ifEvaluator = null;
+        recorded.startReplay();
+        parallelEvaluator = new ConditionalEvaluator(recorded,
+                ifFactory.apply(recorded),
+                thenFactory.apply(recorded),
+                elseFactory.apply(recorded));
+        Result result = recorded.replay(parallelEvaluator, dispatcher);
+        if (result == Result.PENDING) {
+            result = parallelEvaluator.evaluate(event, depth, dispatcher);
+        }
+        return result;
+    }
+
+    private Result finalizeEvaluation(Result result, ProblemDispatcher dispatcher) {
+        if (result == Result.FALSE && branchEvaluator.problems() != null) {
+            branchEvaluator.problems().forEach(problem -> dispatcher.dispatchProblem(problem));
+        }
+        return result;
+    }
+}
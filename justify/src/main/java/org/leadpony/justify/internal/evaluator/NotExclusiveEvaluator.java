@@ -53,4 +53,10 @@ class NotExclusiveEvaluator extends SimpleNotExclusiveEvaluator {
         }
         return Result.PENDING;
     }
+
+    @Override
+    public boolean ignoresSubtree(int depth) {
+        // The closing event is required to determine the final result.
+        return depth > 0 && super.ignoresSubtree(depth);
+    }
 }
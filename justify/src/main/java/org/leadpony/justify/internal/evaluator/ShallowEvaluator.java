@@ -40,5 +40,10 @@ public abstract class ShallowEvaluator extends AbstractEvaluator {
         return evaluateShallow(event, depth, dispatcher);
     }
 
+    @Override
+    public boolean ignoresSubtree(int depth) {
+        return depth > 0;
+    }
+
     public abstract Result evaluateShallow(Event event, int depth, ProblemDispatcher dispatcher);
 }
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.evaluator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.api.ProblemDispatcher;
+import org.leadpony.justify.internal.problem.DefaultProblemDispatcher;
+import org.leadpony.justify.internal.problem.SilentProblemDispatcher;
+
+/**
+ * Evaluators of the referenced schemas, which are shared by all the references
+ * to the same schema applied to the current value.
+ *
+ * <p>
+ * The evaluators are registered while they are created at the first event of a
+ * value, and forgotten when the context moves to the next event. Each reference
+ * receives its own view of the shared evaluator, which evaluates each event only
+ * once and passes the same result and problems to all the views.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class SharedEvaluators {
+
+    /**
+     * A source of the evaluators shared at the current parser event.
+     *
+     * @author leadpony
+     */
+    public interface Source {
+
+        /**
+         * Returns the evaluators shared at the current parser event.
+         *
+         * @return the shared evaluators, or {@code null} if the evaluators cannot
+         *         be shared.
+         */
+        SharedEvaluators getSharedEvaluators();
+    }
+
+    private final Map<JsonSchema, SharedEvaluator> evaluators = new HashMap<>();
+
+    /**
+     * Creates an evaluator of the referenced schema, which is shared with the
+     * other references if the context is a {@link Source}.
+     *
+     * @param schema  the referenced schema.
+     * @param context the context of the current validation.
+     * @param type    the type of the instance.
+     * @return the evaluator created.
+     */
+    public static Evaluator createEvaluator(JsonSchema schema, EvaluatorContext context, InstanceType type) {
+        SharedEvaluators shared = of(context);
+        if (shared == null) {
+            return schema.createEvaluator(context, type);
+        }
+        return shared.share(schema, context, type, false);
+    }
+
+    /**
+     * Creates a negated evaluator of the referenced schema, which is shared with
+     * the other references if the context is a {@link Source}.
+     *
+     * @param schema  the referenced schema.
+     * @param context the context of the current validation.
+     * @param type    the type of the instance.
+     * @return the evaluator created.
+     */
+    public static Evaluator createNegatedEvaluator(JsonSchema schema, EvaluatorContext context, InstanceType type) {
+        SharedEvaluators shared = of(context);
+        if (shared == null) {
+            return schema.createNegatedEvaluator(context, type);
+        }
+        return shared.share(schema, context, type, true);
+    }
+
+    /**
+     * Returns the evaluators shared at the current event of the context.
+     *
+     * @param context the context of the current validation.
+     * @return the shared evaluators, or {@code null} if the evaluators cannot be
+     *         shared.
+     */
+    public static SharedEvaluators of(EvaluatorContext context) {
+        if (context instanceof Source) {
+            return ((Source) context).getSharedEvaluators();
+        }
+        return null;
+    }
+
+    /**
+     * Forgets all the evaluators registered at the previous event.
+     */
+    public void clear() {
+        if (!evaluators.isEmpty()) {
+            evaluators.clear();
+        }
+    }
+
+    private Evaluator share(JsonSchema schema, EvaluatorContext context, InstanceType type, boolean negated) {
+        SharedEvaluator first = evaluators.get(schema);
+        for (SharedEvaluator current = first; current != null; current = current.next) {
+            if (current.type == type && current.negated == negated && current.context == context) {
+                return current.new Subscriber();
+            }
+        }
+        SharedEvaluator created = new SharedEvaluator(schema, context, type, negated);
+        if (created.evaluator == Evaluator.ALWAYS_TRUE) {
+            return Evaluator.ALWAYS_TRUE;
+        }
+        created.next = first;
+        evaluators.put(schema, created);
+        return created;
+    }
+
+    /**
+     * A view of the evaluator shared by the references.
+     *
+     * @author leadpony
+     */
+    private abstract static class AbstractView implements Evaluator {
+
+        private long receivedEvents;
+        private int dispatched;
+        private Evaluator detached;
+
+        protected abstract SharedEvaluator target();
+
+        @Override
+        public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
+            if (detached != null) {
+                return detached.evaluate(event, depth, dispatcher);
+            }
+            SharedEvaluator target = target();
+            if (++receivedEvents > target.evaluatedEvents) {
+                target.advance(event, depth, dispatcher);
+            } else if (!target.reportsProblems && dispatcher != SilentProblemDispatcher.SINGLETON) {
+                // Problems of the shared evaluator are not retained.
+                assert receivedEvents == 1;
+                detached = target.createEvaluator();
+                return detached.evaluate(event, depth, dispatcher);
+            }
+            if (target.problems != null && dispatched < target.problems.size()) {
+                if (dispatcher != SilentProblemDispatcher.SINGLETON) {
+                    for (int i = dispatched; i < target.problems.size(); i++) {
+                        dispatcher.dispatchProblem(target.problems.get(i));
+                    }
+                }
+                dispatched = target.problems.size();
+            }
+            return target.result;
+        }
+
+        @Override
+        public boolean isAlwaysFalse() {
+            return target().evaluator.isAlwaysFalse();
+        }
+
+        @Override
+        public boolean ignoresSubtree(int depth) {
+            if (detached != null) {
+                return detached.ignoresSubtree(depth);
+            }
+            SharedEvaluator target = target();
+            return target.result != Result.PENDING || target.evaluator.ignoresSubtree(depth);
+        }
+    }
+
+    /**
+     * An evaluator shared by the references, which is also the view for the
+     * first reference.
+     *
+     * @author leadpony
+     */
+    private static final class SharedEvaluator extends AbstractView implements DefaultProblemDispatcher {
+
+        private final JsonSchema schema;
+        private final EvaluatorContext context;
+        private final InstanceType type;
+        private final boolean negated;
+        private final Evaluator evaluator;
+        private SharedEvaluator next;
+
+        private long evaluatedEvents;
+        private boolean reportsProblems;
+        private Result result = Result.PENDING;
+        private List<Problem> problems;
+
+        SharedEvaluator(JsonSchema schema, EvaluatorContext context, InstanceType type, boolean negated) {
+            this.schema = schema;
+            this.context = context;
+            this.type = type;
+            this.negated = negated;
+            this.evaluator = createEvaluator();
+        }
+
+        @Override
+        protected SharedEvaluator target() {
+            return this;
+        }
+
+        @Override
+        public void dispatchProblem(Problem problem) {
+            if (problems == null) {
+                problems = new ArrayList<>();
+            }
+            problems.add(problem);
+        }
+
+        Evaluator createEvaluator() {
+            return negated ? schema.createNegatedEvaluator(context, type) : schema.createEvaluator(context, type);
+        }
+
+        /**
+         * Evaluates the next event. The problems are retained only if the first
+         * view evaluating the first event reports problems.
+         */
+        void advance(Event event, int depth, ProblemDispatcher dispatcher) {
+            if (evaluatedEvents++ == 0) {
+                reportsProblems = dispatcher != SilentProblemDispatcher.SINGLETON;
+            }
+            if (result == Result.PENDING) {
+                result = evaluator.evaluate(event, depth,
+                        reportsProblems ? this : SilentProblemDispatcher.SINGLETON);
+            }
+        }
+
+        /**
+         * The view for the second and subsequent references.
+         *
+         * @author leadpony
+         */
+        private final class Subscriber extends AbstractView {
+
+            @Override
+            protected SharedEvaluator target() {
+                return SharedEvaluator.this;
+            }
+        }
+    }
+}
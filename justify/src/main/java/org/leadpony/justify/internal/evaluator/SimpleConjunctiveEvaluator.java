@@ -32,7 +32,16 @@ class SimpleConjunctiveEvaluator extends ArrayList<Evaluator> implements Logical
 
     private static final long serialVersionUID = 1L;
 
-    SimpleConjunctiveEvaluator() {
+    private final boolean failFast;
+
+    /**
+     * Constructs this evaluator.
+     *
+     * @param failFast {@code true} if this evaluator stops evaluating the
+     *                 operands at the first false.
+     */
+    SimpleConjunctiveEvaluator(boolean failFast) {
+        this.failFast = failFast;
     }
 
     @Override
@@ -41,6 +50,9 @@ class SimpleConjunctiveEvaluator extends ArrayList<Evaluator> implements Logical
         for (Evaluator operand : this) {
             if (operand.evaluate(event, depth, dispatcher) == Result.FALSE) {
                 finalResult = Result.FALSE;
+                if (failFast) {
+                    break;
+                }
             }
         }
         return finalResult;
@@ -53,4 +65,18 @@ class SimpleConjunctiveEvaluator extends ArrayList<Evaluator> implements Logical
         }
         add(evaluator);
     }
+
+    @Override
+    public boolean ignoresSubtree(int depth) {
+        for (Evaluator operand : this) {
+            if (!operand.ignoresSubtree(depth)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected final boolean isFailFast() {
+        return failFast;
+    }
 }
@@ -29,6 +29,7 @@ import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 import org.leadpony.justify.internal.problem.ProblemList;
+import org.leadpony.justify.internal.problem.SilentProblemDispatcher;
 
 /**
  * Evaluator for "anyOf" boolean logic.
@@ -48,13 +49,20 @@ class SimpleDisjunctiveEvaluator extends AbstractLogicalEvaluator
     @Override
     public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
         for (DeferredEvaluator operand : operands) {
-            Result result = operand.evaluate(event, depth, dispatcher);
-            if (result == Result.TRUE) {
+            if (!operand.isAlwaysFalse() && operand.evaluate(event, depth, dispatcher) == Result.TRUE) {
                 return Result.TRUE;
-            } else {
-                addBadEvaluator(operand);
             }
         }
+        if (dispatcher == SilentProblemDispatcher.SINGLETON) {
+            return Result.FALSE;
+        }
+        // The operands known to be false are evaluated only for their problems.
+        for (DeferredEvaluator operand : operands) {
+            if (operand.isAlwaysFalse()) {
+                operand.evaluate(event, depth, dispatcher);
+            }
+            addBadEvaluator(operand);
+        }
         return dispatchProblems(dispatcher);
     }
 
@@ -63,6 +71,20 @@ class SimpleDisjunctiveEvaluator extends AbstractLogicalEvaluator
         this.operands.add(new DeferredEvaluator(evaluator));
     }
 
+    @Override
+    public boolean ignoresSubtree(int depth) {
+        return operandsIgnoreSubtree(depth);
+    }
+
+    protected final boolean operandsIgnoreSubtree(int depth) {
+        for (DeferredEvaluator operand : operands) {
+            if (!operand.ignoresSubtree(depth)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public Iterator<DeferredEvaluator> iterator() {
         return operands.iterator();
@@ -76,6 +98,9 @@ class SimpleDisjunctiveEvaluator extends AbstractLogicalEvaluator
     }
 
     protected Result dispatchProblems(ProblemDispatcher dispatcher) {
+        if (dispatcher == SilentProblemDispatcher.SINGLETON) {
+            return Result.FALSE;
+        }
         if (problemLists == null) {
             dispatchDefaultProblem(dispatcher);
         } else {
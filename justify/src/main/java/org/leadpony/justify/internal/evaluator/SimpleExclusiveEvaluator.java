@@ -19,6 +19,8 @@ package org.leadpony.justify.internal.evaluator;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.json.stream.JsonParser.Event;
@@ -27,6 +29,7 @@ import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.internal.problem.ProblemList;
+import org.leadpony.justify.internal.problem.SilentProblemDispatcher;
 
 /**
  * @author leadpony
@@ -34,9 +37,10 @@ import org.leadpony.justify.internal.problem.ProblemList;
 class SimpleExclusiveEvaluator extends AbstractExclusiveEvaluator {
 
     private final Stream<Evaluator> operands;
-    private final Stream<Evaluator> negated;
+    private final Function<EvaluatorContext, Stream<Evaluator>> negated;
 
-    SimpleExclusiveEvaluator(EvaluatorContext context, Stream<Evaluator> operands, Stream<Evaluator> negated) {
+    SimpleExclusiveEvaluator(EvaluatorContext context, Stream<Evaluator> operands,
+            Function<EvaluatorContext, Stream<Evaluator>> negated) {
         super(context);
         this.operands = operands;
         this.negated = negated;
@@ -47,7 +51,7 @@ class SimpleExclusiveEvaluator extends AbstractExclusiveEvaluator {
         int evaluationsAsTrue = evaluateAll(event, depth, dispatcher);
         if (evaluationsAsTrue == 1) {
             return Result.TRUE;
-        } else if (evaluationsAsTrue > 1) {
+        } else if (evaluationsAsTrue > 1 && dispatcher != SilentProblemDispatcher.SINGLETON) {
             evaluateAllNegated(event, depth, dispatcher);
         }
         return Result.FALSE;
@@ -58,21 +62,22 @@ class SimpleExclusiveEvaluator extends AbstractExclusiveEvaluator {
     }
 
     private int evaluateAll(Event event, int depth, ProblemDispatcher dispatcher) {
-        List<ProblemList> problemLists = new ArrayList<>();
-        Iterator<DeferredEvaluator> it = iterator(operands);
+        List<DeferredEvaluator> evaluators = operands.map(DeferredEvaluator::new).collect(Collectors.toList());
         int evaluationsAsTrue = 0;
-        while (it.hasNext()) {
-            DeferredEvaluator current = it.next();
-            Result result = current.evaluate(event, depth, dispatcher);
-            if (result == Result.TRUE) {
+        for (DeferredEvaluator current : evaluators) {
+            if (!current.isAlwaysFalse() && current.evaluate(event, depth, dispatcher) == Result.TRUE) {
                 ++evaluationsAsTrue;
-            } else if (result == Result.FALSE) {
-                problemLists.add(current.problems());
-            } else {
-                assert false;
             }
         }
-        if (evaluationsAsTrue == 0) {
+        if (evaluationsAsTrue == 0 && dispatcher != SilentProblemDispatcher.SINGLETON) {
+            // The operands known to be false are evaluated only for their problems.
+            List<ProblemList> problemLists = new ArrayList<>();
+            for (DeferredEvaluator current : evaluators) {
+                if (current.isAlwaysFalse()) {
+                    current.evaluate(event, depth, dispatcher);
+                }
+                problemLists.add(current.problems());
+            }
             dispatchProblems(dispatcher, problemLists);
         }
         return evaluationsAsTrue;
@@ -80,7 +85,7 @@ class SimpleExclusiveEvaluator extends AbstractExclusiveEvaluator {
 
     private void evaluateAllNegated(Event event, int depth, ProblemDispatcher dispatcher) {
         List<ProblemList> problemLists = new ArrayList<>();
-        Iterator<DeferredEvaluator> it = iterator(negated);
+        Iterator<DeferredEvaluator> it = iterator(negated.apply(getContext()));
         while (it.hasNext()) {
             DeferredEvaluator current = it.next();
             Result result = current.evaluate(event, depth, dispatcher);
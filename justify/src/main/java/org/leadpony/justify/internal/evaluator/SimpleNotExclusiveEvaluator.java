@@ -61,6 +61,16 @@ class SimpleNotExclusiveEvaluator extends AbstractLogicalEvaluator
         operands.add(new DeferredEvaluator(evaluator));
     }
 
+    @Override
+    public boolean ignoresSubtree(int depth) {
+        for (DeferredEvaluator operand : operands) {
+            if (!operand.ignoresSubtree(depth)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public Iterator<DeferredEvaluator> iterator() {
         return operands.iterator();
@@ -75,7 +85,9 @@ class SimpleNotExclusiveEvaluator extends AbstractLogicalEvaluator
 
     protected Result finalizeResult(ProblemDispatcher dispatcher) {
         if (evaluationsAsFalse == 1) {
-            problemList.forEach(dispatcher::dispatchProblem);
+            if (problemList != null) {
+                problemList.forEach(dispatcher::dispatchProblem);
+            }
             return Result.FALSE;
         } else {
             return Result.TRUE;
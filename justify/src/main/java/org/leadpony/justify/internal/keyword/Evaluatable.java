@@ -39,4 +39,16 @@ public interface Evaluatable {
      * @param type    the type of the target JSON instance, cannot be {@code null}.
      */
     Evaluator createNegatedEvaluator(EvaluatorContext context, InstanceType type);
+
+    /**
+     * Checks if this evaluatable supports the specified type. The evaluatable
+     * which does not support a type always evaluates the instance of the type
+     * as true.
+     *
+     * @param type the type to check.
+     * @return {@code true} if this evaluatable supports the type.
+     */
+    default boolean supportsType(InstanceType type) {
+        return true;
+    }
 }
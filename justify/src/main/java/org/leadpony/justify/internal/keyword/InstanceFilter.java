@@ -0,0 +1,40 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword;
+
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.InstanceType;
+
+/**
+ * A keyword which can reject an instance only by its type or scalar value,
+ * before any evaluators are created for the instance.
+ *
+ * @author leadpony
+ */
+public interface InstanceFilter {
+
+    /**
+     * Checks if the current instance may satisfy this keyword. This method is
+     * called at the first event of the instance.
+     *
+     * @param context the context shared by all evaluators in the validation.
+     * @param type    the type of the instance, cannot be {@code null}.
+     * @return {@code false} if the instance never satisfies this keyword,
+     *         {@code true} if it may.
+     */
+    boolean mayAccept(EvaluatorContext context, InstanceType type);
+}
@@ -46,6 +46,12 @@ public interface KeywordFactory {
      */
     interface CreationContext {
 
+        /**
+         * The default maximum number of events buffered until the discriminator of
+         * subschemas is found.
+         */
+        int DEFAULT_DISCRIMINATOR_BUFFER_SIZE = 64;
+
         /**
          * Returns the JSON schema generated from the specified JSON value.
          *
@@ -78,5 +84,38 @@ public interface KeywordFactory {
          * @return the MIME type.
          */
         ContentMimeType getMimeType(String value);
+
+        /**
+         * Returns the maximum number of results cached for each pattern.
+         *
+         * @return the maximum number of results, or zero if the results are not
+         *         cached.
+         */
+        default int getPatternCacheSize() {
+            return 0;
+        }
+
+        /**
+         * Returns the maximum number of results cached for each format with the
+         * specified attribute.
+         *
+         * @param name the name of the format attribute.
+         * @return the maximum number of results, or zero if the results are not
+         *         cached.
+         */
+        default int getFormatCacheSize(String name) {
+            return 0;
+        }
+
+        /**
+         * Returns the maximum number of events buffered until the discriminator of
+         * the subschemas in {@code anyOf} or {@code oneOf} is found.
+         *
+         * @return the maximum number of events, or zero if the discriminator is not
+         *         used.
+         */
+        default int getDiscriminatorBufferSize() {
+            return DEFAULT_DISCRIMINATOR_BUFFER_SIZE;
+        }
     }
 }
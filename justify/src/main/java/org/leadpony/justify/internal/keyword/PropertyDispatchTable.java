@@ -0,0 +1,256 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.internal.base.DirectMappedCache;
+
+/**
+ * A table which tells the object keywords of a schema what to do with each
+ * property name.
+ *
+ * <p>
+ * The table is compiled once per schema from all the keywords taking part in
+ * it. It maps a property name to the subschemas to be applied to the property
+ * value, and to the slot of the name if the name is tracked by "required" or
+ * "dependencies". The table is immutable except for the cache of the
+ * undeclared names, and may be shared by the evaluators running in any thread.
+ * </p>
+ *
+ * @author leadpony
+ */
+public final class PropertyDispatchTable {
+
+    private static final int CACHE_SIZE = 256;
+    // Longer names are classified every time.
+    private static final int MAX_CACHED_NAME_LENGTH = 256;
+    private static final JsonSchema[] NO_SUBSCHEMAS = {};
+    private static final Entry UNKNOWN_ENTRY = new Entry(NO_SUBSCHEMAS, -1);
+
+    private final Map<String, Entry> declaredEntries;
+    private final int trackedSize;
+    private final Function<String, JsonSchema[]> classifier;
+    // The entries of the names not declared by any keyword, shared by all threads.
+    private final DirectMappedCache<String, Entry> undeclaredEntries;
+
+    /**
+     * Compiles the table for the evaluatables of a schema and passes it to all
+     * the participants found in them.
+     *
+     * @param evaluatables the evaluatables of the schema.
+     */
+    public static void bind(Collection<? extends Evaluatable> evaluatables) {
+        Builder builder = null;
+        for (Evaluatable evaluatable : evaluatables) {
+            if (evaluatable instanceof Participant) {
+                if (builder == null) {
+                    builder = new Builder();
+                }
+                ((Participant) evaluatable).declareProperties(builder);
+            }
+        }
+        if (builder == null) {
+            return;
+        }
+        PropertyDispatchTable table = builder.build();
+        for (Evaluatable evaluatable : evaluatables) {
+            if (evaluatable instanceof Participant) {
+                ((Participant) evaluatable).useDispatchTable(table);
+            }
+        }
+    }
+
+    private PropertyDispatchTable(Builder builder) {
+        Map<String, Entry> entries = new HashMap<>();
+        Set<String> names = new LinkedHashSet<>(builder.properties);
+        names.addAll(builder.slots.keySet());
+        for (String name : names) {
+            entries.put(name, new Entry(builder.classify(name),
+                    builder.slots.getOrDefault(name, -1)));
+        }
+        this.declaredEntries = entries;
+        this.trackedSize = builder.slots.size();
+        this.classifier = builder.classifier;
+        this.undeclaredEntries = (classifier != null) ? new DirectMappedCache<>(CACHE_SIZE) : null;
+    }
+
+    /**
+     * Returns the number of the tracked names.
+     *
+     * @return the number of the tracked names.
+     */
+    public int getTrackedSize() {
+        return trackedSize;
+    }
+
+    /**
+     * Looks up the entry for the given property name.
+     *
+     * @param name the name of the property.
+     * @return the entry found, never be {@code null}.
+     */
+    public Entry lookup(String name) {
+        Entry entry = declaredEntries.get(name);
+        if (entry == null) {
+            entry = findUndeclaredEntry(name);
+        }
+        return entry;
+    }
+
+    private Entry findUndeclaredEntry(String name) {
+        if (classifier == null) {
+            return UNKNOWN_ENTRY;
+        } else if (name.length() > MAX_CACHED_NAME_LENGTH) {
+            return new Entry(classifier.apply(name), -1);
+        }
+        Entry entry = undeclaredEntries.get(name);
+        if (entry == null) {
+            entry = new Entry(classifier.apply(name), -1);
+            undeclaredEntries.put(name, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * An immutable entry of the table.
+     *
+     * @author leadpony
+     */
+    public static final class Entry {
+
+        private final JsonSchema[] subschemas;
+        private final int slot;
+
+        private Entry(JsonSchema[] subschemas, int slot) {
+            this.subschemas = subschemas;
+            this.slot = slot;
+        }
+
+        /**
+         * Returns the subschemas to be applied to the property value, not
+         * including the default schema.
+         *
+         * @return the subschemas, may be empty. The caller must not modify it.
+         */
+        public JsonSchema[] getSubschemas() {
+            return subschemas;
+        }
+
+        /**
+         * Returns the slot assigned to the tracked name.
+         *
+         * @return the slot of the name, or -1 if the name is not tracked.
+         */
+        public int getSlot() {
+            return slot;
+        }
+
+        /**
+         * Checks if the name is tracked by any keyword.
+         *
+         * @return {@code true} if the name is tracked.
+         */
+        public boolean isTracked() {
+            return slot >= 0;
+        }
+    }
+
+    /**
+     * A builder of the table.
+     *
+     * @author leadpony
+     */
+    public static final class Builder {
+
+        private final Set<String> properties = new LinkedHashSet<>();
+        private final Map<String, Integer> slots = new LinkedHashMap<>();
+        private Function<String, JsonSchema[]> classifier;
+
+        private Builder() {
+        }
+
+        /**
+         * Specifies the function which finds the subschemas for a property name.
+         *
+         * @param classifier the function returning the subschemas found.
+         * @return this builder.
+         */
+        public Builder withClassifier(Function<String, JsonSchema[]> classifier) {
+            this.classifier = classifier;
+            return this;
+        }
+
+        /**
+         * Declares the name of a property having its own subschema.
+         *
+         * @param name the name of the property.
+         * @return this builder.
+         */
+        public Builder withProperty(String name) {
+            properties.add(name);
+            return this;
+        }
+
+        /**
+         * Tracks the presence of the given name and assigns a slot to it.
+         *
+         * @param name the name to be tracked.
+         * @return the slot assigned to the name.
+         */
+        public int track(String name) {
+            return slots.computeIfAbsent(name, k -> slots.size());
+        }
+
+        private JsonSchema[] classify(String name) {
+            return (classifier != null) ? classifier.apply(name) : NO_SUBSCHEMAS;
+        }
+
+        private PropertyDispatchTable build() {
+            return new PropertyDispatchTable(this);
+        }
+    }
+
+    /**
+     * A keyword taking part in the table.
+     *
+     * @author leadpony
+     */
+    public interface Participant {
+
+        /**
+         * Declares the property names which this keyword is interested in.
+         *
+         * @param builder the builder of the table.
+         */
+        void declareProperties(Builder builder);
+
+        /**
+         * Receives the table compiled for the schema.
+         *
+         * @param table the table to be used by this keyword.
+         */
+        void useDispatchTable(PropertyDispatchTable table);
+    }
+}
@@ -16,6 +16,7 @@
 
 package org.leadpony.justify.internal.keyword.applicator;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -33,6 +34,7 @@ import org.leadpony.justify.internal.base.json.ParserEvents;
 import org.leadpony.justify.internal.evaluator.AbstractConjunctivePropertiesEvaluator;
 import org.leadpony.justify.internal.evaluator.AbstractDisjunctivePropertiesEvaluator;
 import org.leadpony.justify.internal.keyword.Evaluatable;
+import org.leadpony.justify.internal.keyword.PropertyDispatchTable;
 import org.leadpony.justify.internal.keyword.SchemaKeyword;
 import org.leadpony.justify.internal.keyword.ObjectKeyword;
 
@@ -43,10 +45,14 @@ import org.leadpony.justify.internal.keyword.ObjectKeyword;
  *
  * @author leadpony
  */
-public abstract class AbstractProperties<K> extends Applicator implements ObjectKeyword {
+public abstract class AbstractProperties<K> extends Applicator
+        implements ObjectKeyword, PropertyDispatchTable.Participant {
+
+    private static final JsonSchema[] NO_SUBSCHEMAS = {};
 
     protected final Map<K, JsonSchema> propertyMap;
     private JsonSchema defaultSchema;
+    private PropertyDispatchTable dispatchTable;
 
     protected AbstractProperties(JsonValue json, Map<K, JsonSchema> properties) {
         super(json);
@@ -82,8 +88,26 @@ public abstract class AbstractProperties<K> extends Applicator implements Object
         return propertyMap.values().stream();
     }
 
+    @Override
+    public void declareProperties(PropertyDispatchTable.Builder builder) {
+        builder.withClassifier(this::collectSubschemas);
+    }
+
+    @Override
+    public void useDispatchTable(PropertyDispatchTable table) {
+        this.dispatchTable = table;
+    }
+
     protected abstract boolean findSubschemas(String keyName, Consumer<JsonSchema> consumer);
 
+    private JsonSchema[] collectSubschemas(String keyName) {
+        List<JsonSchema> subschemas = new ArrayList<>();
+        if (!findSubschemas(keyName, subschemas::add)) {
+            return NO_SUBSCHEMAS;
+        }
+        return subschemas.toArray(new JsonSchema[subschemas.size()]);
+    }
+
     /**
      * An evaluator of this keyword.
      *
@@ -93,6 +117,7 @@ public abstract class AbstractProperties<K> extends Applicator implements Object
 
         private final JsonSchema defaultSchema;
         private String currentKeyName;
+        private JsonSchema[] currentSubschemas;
         private InstanceType currentType;
 
         PropertiesEvaluator(EvaluatorContext context, JsonSchema defaultSchema) {
@@ -103,11 +128,16 @@ public abstract class AbstractProperties<K> extends Applicator implements Object
         @Override
         public void updateChildren(Event event, JsonParser parser) {
             if (event == Event.KEY_NAME) {
-                currentKeyName = parser.getString();
+                currentKeyName = getContext().getStringValue();
+                currentSubschemas = dispatchTable.lookup(currentKeyName).getSubschemas();
             } else if (ParserEvents.isValue(event)) {
                 currentType = ParserEvents.toBroadInstanceType(event);
-                if (!findSubschemas(currentKeyName, this)) {
+                if (currentSubschemas.length == 0) {
                     accept(defaultSchema);
+                } else {
+                    for (JsonSchema subschema : currentSubschemas) {
+                        accept(subschema);
+                    }
                 }
             }
         }
@@ -134,6 +164,7 @@ public abstract class AbstractProperties<K> extends Applicator implements Object
 
         private final JsonSchema defaultSchema;
         private String currentKeyName;
+        private JsonSchema[] currentSubschemas;
         private InstanceType currentType;
 
         NegatedPropertiesEvaluator(EvaluatorContext context, JsonSchema defaultSchema) {
@@ -144,11 +175,16 @@ public abstract class AbstractProperties<K> extends Applicator implements Object
         @Override
         public void updateChildren(Event event, JsonParser parser) {
             if (event == Event.KEY_NAME) {
-                currentKeyName = parser.getString();
+                currentKeyName = getContext().getStringValue();
+                currentSubschemas = dispatchTable.lookup(currentKeyName).getSubschemas();
             } else if (ParserEvents.isValue(event)) {
                 currentType = ParserEvents.toBroadInstanceType(event);
-                if (!findSubschemas(currentKeyName, this)) {
+                if (currentSubschemas.length == 0) {
                     accept(defaultSchema);
+                } else {
+                    for (JsonSchema subschema : currentSubschemas) {
+                        accept(subschema);
+                    }
                 }
             }
         }
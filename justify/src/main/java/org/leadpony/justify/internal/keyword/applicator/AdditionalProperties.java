@@ -151,7 +151,7 @@ public class AdditionalProperties extends UnaryCombiner {
             @Override
             public void updateChildren(Event event, JsonParser parser) {
                 if (event == Event.KEY_NAME) {
-                    keyName = parser.getString();
+                    keyName = getContext().getStringValue();
                 } else if (ParserEvents.isValue(event)) {
                     append(createRedundantPropertyEvaluator(context, keyName));
                 }
@@ -165,7 +165,7 @@ public class AdditionalProperties extends UnaryCombiner {
             @Override
             public void updateChildren(Event event, JsonParser parser) {
                 if (event == Event.KEY_NAME) {
-                    keyName = parser.getString();
+                    keyName = getContext().getStringValue();
                 } else if (ParserEvents.isValue(event)) {
                     append(createRedundantPropertyEvaluator(context, keyName));
                 }
@@ -57,7 +57,7 @@ public class AllOf extends NaryBooleanLogic {
 
     @Override
     protected LogicalEvaluator createLogicalEvaluator(EvaluatorContext context, InstanceType type) {
-        LogicalEvaluator evaluator = Evaluators.conjunctive(type);
+        LogicalEvaluator evaluator = Evaluators.conjunctive(context, type);
         getSubschemas().distinct()
                 .map(s -> s.createEvaluator(context, type))
                 .forEach(evaluator::append);
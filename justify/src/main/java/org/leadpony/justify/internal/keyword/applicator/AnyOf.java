@@ -17,9 +17,11 @@
 package org.leadpony.justify.internal.keyword.applicator;
 
 import java.util.Collection;
+import java.util.function.Predicate;
 
 import javax.json.JsonValue;
 
+import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.JsonSchema;
@@ -28,6 +30,7 @@ import org.leadpony.justify.internal.annotation.KeywordType;
 import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.evaluator.Evaluators;
 import org.leadpony.justify.internal.evaluator.LogicalEvaluator;
+import org.leadpony.justify.internal.keyword.KeywordFactory.CreationContext;
 import org.leadpony.justify.internal.keyword.KeywordMapper;
 
 /**
@@ -47,29 +50,53 @@ public class AnyOf extends NaryBooleanLogic {
      * @return the mapper for this keyword.
      */
     public static KeywordMapper mapper() {
-        KeywordMapper.FromSchemaList mapper = AnyOf::new;
-        return mapper;
+        return (value, context) -> {
+            KeywordMapper.FromSchemaList mapper = (json, subschemas) -> new AnyOf(json, subschemas,
+                    context.getDiscriminatorBufferSize());
+            return mapper.map(value, context);
+        };
     }
 
     public AnyOf(JsonValue json, Collection<JsonSchema> subschemas) {
-        super(json, subschemas);
+        this(json, subschemas, CreationContext.DEFAULT_DISCRIMINATOR_BUFFER_SIZE);
+    }
+
+    public AnyOf(JsonValue json, Collection<JsonSchema> subschemas, int discriminatorBufferSize) {
+        super(json, subschemas, discriminatorBufferSize);
+    }
+
+    @Override
+    protected Evaluator doCreateEvaluator(EvaluatorContext context, InstanceType type) {
+        Evaluator evaluator = createDiscriminatingEvaluator(context, type,
+                (c, candidates) -> createLogicalEvaluator(c, type, candidates).withProblemBuilderFactory(this));
+        return (evaluator != null) ? evaluator : super.doCreateEvaluator(context, type);
     }
 
     @Override
     protected LogicalEvaluator createLogicalEvaluator(EvaluatorContext context, InstanceType type) {
-        LogicalEvaluator evaluator = Evaluators.disjunctive(context, type);
-        getSubschemas().distinct()
-                .map(s -> s.createEvaluator(context, type))
-                .forEach(evaluator::append);
-        return evaluator;
+        return createLogicalEvaluator(context, type, s -> true);
     }
 
     @Override
     protected LogicalEvaluator createNegatedLogicalEvaluator(EvaluatorContext context, InstanceType type) {
-        LogicalEvaluator evaluator = Evaluators.conjunctive(type);
+        LogicalEvaluator evaluator = Evaluators.conjunctive(context, type);
+        // The negation of the subschema never valid is always true.
         getSubschemas().distinct()
+                .filter(s -> mayBeValid(s, context, type))
                 .map(s -> s.createNegatedEvaluator(context, type))
                 .forEach(evaluator::append);
         return evaluator;
     }
+
+    private LogicalEvaluator createLogicalEvaluator(EvaluatorContext context, InstanceType type,
+            Predicate<JsonSchema> candidates) {
+        LogicalEvaluator evaluator = Evaluators.disjunctive(context, type);
+        getSubschemas().distinct()
+                .filter(candidates)
+                .map(s -> mayBeValid(s, context, type)
+                        ? s.createEvaluator(context, type)
+                        : Evaluators.excluded(context, () -> s.createEvaluator(context, type)))
+                .forEach(evaluator::append);
+        return evaluator;
+    }
 }
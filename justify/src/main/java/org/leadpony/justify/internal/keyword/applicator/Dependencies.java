@@ -44,12 +44,14 @@ import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.annotation.KeywordType;
 import org.leadpony.justify.internal.annotation.Spec;
+import org.leadpony.justify.internal.base.CompactBitSet;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.evaluator.AbstractEvaluator;
 import org.leadpony.justify.internal.evaluator.Evaluators;
 import org.leadpony.justify.internal.evaluator.LogicalEvaluator;
 import org.leadpony.justify.internal.keyword.KeywordMapper;
 import org.leadpony.justify.internal.keyword.ObjectKeyword;
+import org.leadpony.justify.internal.keyword.PropertyDispatchTable;
 import org.leadpony.justify.internal.problem.DefaultProblemDispatcher;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 
@@ -62,9 +64,11 @@ import org.leadpony.justify.internal.problem.ProblemBuilder;
 @Spec(SpecVersion.DRAFT_04)
 @Spec(SpecVersion.DRAFT_06)
 @Spec(SpecVersion.DRAFT_07)
-public class Dependencies extends Applicator implements ObjectKeyword {
+public class Dependencies extends Applicator
+        implements ObjectKeyword, PropertyDispatchTable.Participant {
 
     private final Map<String, Dependency> dependencyMap;
+    private PropertyDispatchTable dispatchTable;
 
     /**
      * Returns the mapper which maps a JSON value to this keyword.
@@ -114,7 +118,7 @@ public class Dependencies extends Applicator implements ObjectKeyword {
 
     @Override
     protected Evaluator doCreateEvaluator(EvaluatorContext context, InstanceType type) {
-        LogicalEvaluator evaluator = Evaluators.conjunctive(type);
+        LogicalEvaluator evaluator = Evaluators.conjunctive(context, type);
         dependencyMap.values().stream()
                 .map(d -> d.createEvaluator(context))
                 .forEach(evaluator::append);
@@ -130,6 +134,16 @@ public class Dependencies extends Applicator implements ObjectKeyword {
         return evaluator;
     }
 
+    @Override
+    public void declareProperties(PropertyDispatchTable.Builder builder) {
+        dependencyMap.values().forEach(d -> d.declareProperties(builder));
+    }
+
+    @Override
+    public void useDispatchTable(PropertyDispatchTable table) {
+        this.dispatchTable = table;
+    }
+
     @Override
     public boolean isInPlace() {
         return true;
@@ -194,11 +208,14 @@ public class Dependencies extends Applicator implements ObjectKeyword {
     private abstract class DependencyEvaluator extends AbstractEvaluator {
 
         protected final String property;
+        // The slot of the property in the dispatch table.
+        protected final int slot;
         protected boolean active;
 
-        protected DependencyEvaluator(EvaluatorContext context, String property) {
+        protected DependencyEvaluator(EvaluatorContext context, Dependency dependency) {
             super(context);
-            this.property = property;
+            this.property = dependency.getProperty();
+            this.slot = dependency.getSlot();
             this.active = false;
         }
 
@@ -206,6 +223,15 @@ public class Dependencies extends Applicator implements ObjectKeyword {
             return Result.TRUE;
         }
 
+        /**
+         * Returns the slot of the current key in the dispatch table.
+         *
+         * @return the slot of the key, or -1 if no dependency tracks it.
+         */
+        protected int getKeySlot() {
+            return dispatchTable.lookup(getContext().getStringValue()).getSlot();
+        }
+
         protected Evaluator.Result dispatchMissingDependantProblem(ProblemDispatcher dispatcher) {
             Problem p = createProblemBuilder(getContext())
                     .withMessage(Message.INSTANCE_PROBLEM_REQUIRED)
@@ -224,6 +250,7 @@ public class Dependencies extends Applicator implements ObjectKeyword {
     private abstract static class Dependency {
 
         private final String property;
+        private int slot = -1;
 
         protected Dependency(String property) {
             this.property = property;
@@ -233,10 +260,18 @@ public class Dependencies extends Applicator implements ObjectKeyword {
             return property;
         }
 
+        int getSlot() {
+            return slot;
+        }
+
         boolean hasSubschema() {
             return false;
         }
 
+        void declareProperties(PropertyDispatchTable.Builder builder) {
+            slot = builder.track(property);
+        }
+
         /**
          * Creates a new evaluator for this dependency.
          *
@@ -276,13 +311,13 @@ public class Dependencies extends Applicator implements ObjectKeyword {
         @Override
         Evaluator createEvaluator(EvaluatorContext context) {
             Evaluator subschemaEvaluator = subschema.createEvaluator(context, InstanceType.OBJECT);
-            return new SchemaDependencyEvaluator(context, getProperty(), subschemaEvaluator);
+            return new SchemaDependencyEvaluator(context, this, subschemaEvaluator);
         }
 
         @Override
         Evaluator createNegatedEvaluator(EvaluatorContext context) {
             Evaluator subschemaEvaluator = subschema.createNegatedEvaluator(context, InstanceType.OBJECT);
-            return new NegatedSchemaDependencyEvaluator(context, getProperty(), subschemaEvaluator);
+            return new NegatedSchemaDependencyEvaluator(context, this, subschemaEvaluator);
         }
 
         @Override
@@ -335,7 +370,7 @@ public class Dependencies extends Applicator implements ObjectKeyword {
 
         @Override
         Evaluator createEvaluator(EvaluatorContext context) {
-            return new ForbiddenDependantEvaluator(context, getProperty());
+            return new ForbiddenDependantEvaluator(context, this);
         }
     }
 
@@ -348,8 +383,8 @@ public class Dependencies extends Applicator implements ObjectKeyword {
         private Result result;
         private List<Problem> problems;
 
-        SchemaDependencyEvaluator(EvaluatorContext context, String property, Evaluator subschemaEvaluator) {
-            super(context, property);
+        SchemaDependencyEvaluator(EvaluatorContext context, Dependency dependency, Evaluator subschemaEvaluator) {
+            super(context, dependency);
             this.subschemaEvaluator = subschemaEvaluator;
         }
 
@@ -357,8 +392,7 @@ public class Dependencies extends Applicator implements ObjectKeyword {
         public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
             if (!active) {
                 if (depth == 1 && event == Event.KEY_NAME) {
-                    String keyName = getParser().getString();
-                    if (keyName.equals(property)) {
+                    if (getKeySlot() == slot) {
                         active = true;
                         dispatchAllProblems(dispatcher);
                     }
@@ -410,8 +444,9 @@ public class Dependencies extends Applicator implements ObjectKeyword {
      */
     private final class NegatedSchemaDependencyEvaluator extends SchemaDependencyEvaluator {
 
-        NegatedSchemaDependencyEvaluator(EvaluatorContext context, String property, Evaluator subschemaEvaluator) {
-            super(context, property, subschemaEvaluator);
+        NegatedSchemaDependencyEvaluator(EvaluatorContext context, Dependency dependency,
+                Evaluator subschemaEvaluator) {
+            super(context, dependency, subschemaEvaluator);
         }
 
         @Override
@@ -428,20 +463,35 @@ public class Dependencies extends Applicator implements ObjectKeyword {
     private class PropertyDependency extends Dependency {
 
         private final Set<String> requiredProperties;
+        // The slots of the required properties, in the order of the properties.
+        private final int[] requiredSlots;
+        private final CompactBitSet requiredSlotSet = new CompactBitSet();
 
         PropertyDependency(String property, Set<String> requiredProperties) {
             super(property);
             this.requiredProperties = requiredProperties;
+            this.requiredSlots = new int[requiredProperties.size()];
+        }
+
+        @Override
+        void declareProperties(PropertyDispatchTable.Builder builder) {
+            super.declareProperties(builder);
+            int i = 0;
+            for (String name : requiredProperties) {
+                int slot = builder.track(name);
+                requiredSlots[i++] = slot;
+                requiredSlotSet.set(slot);
+            }
         }
 
         @Override
         Evaluator createEvaluator(EvaluatorContext context) {
-            return new PropertyDependencyEvaluator(context, getProperty(), requiredProperties);
+            return new PropertyDependencyEvaluator(context, this);
         }
 
         @Override
         Evaluator createNegatedEvaluator(EvaluatorContext context) {
-            return new NegatedPropertyDependencyEvaluator(context, getProperty(), requiredProperties);
+            return new NegatedPropertyDependencyEvaluator(context, this);
         }
 
         @Override
@@ -475,7 +525,7 @@ public class Dependencies extends Applicator implements ObjectKeyword {
 
         @Override
         Evaluator createNegatedEvaluator(EvaluatorContext context) {
-            return new NegatedForbiddenDependantEvaluator(context, getProperty());
+            return new NegatedForbiddenDependantEvaluator(context, this);
         }
     }
 
@@ -486,23 +536,28 @@ public class Dependencies extends Applicator implements ObjectKeyword {
      */
     private class PropertyDependencyEvaluator extends DependencyEvaluator {
 
-        protected final Set<String> required;
-        protected final Set<String> missing;
+        protected final PropertyDependency dependency;
+        private final CompactBitSet found = new CompactBitSet();
+        private int remaining;
 
-        PropertyDependencyEvaluator(EvaluatorContext context, String property, Set<String> required) {
-            super(context, property);
-            this.required = required;
-            this.missing = new LinkedHashSet<>(required);
+        PropertyDependencyEvaluator(EvaluatorContext context, PropertyDependency dependency) {
+            super(context, dependency);
+            this.dependency = dependency;
+            this.remaining = dependency.requiredSlots.length;
         }
 
         @Override
         public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
             if (depth == 1 && event == Event.KEY_NAME) {
-                String keyName = getParser().getString();
-                if (keyName.equals(property)) {
-                    active = true;
+                int keySlot = getKeySlot();
+                if (keySlot >= 0) {
+                    if (keySlot == slot) {
+                        active = true;
+                    }
+                    if (dependency.requiredSlotSet.get(keySlot) && found.set(keySlot)) {
+                        --remaining;
+                    }
                 }
-                missing.remove(keyName);
             } else if (depth == 0 && event == Event.END_OBJECT) {
                 if (active) {
                     return test(dispatcher);
@@ -513,11 +568,24 @@ public class Dependencies extends Applicator implements ObjectKeyword {
             return Result.PENDING;
         }
 
+        @Override
+        public boolean ignoresSubtree(int depth) {
+            return depth > 0;
+        }
+
+        protected boolean isSatisfied() {
+            return remaining == 0;
+        }
+
         protected Result test(ProblemDispatcher dispatcher) {
-            if (missing.isEmpty()) {
+            if (isSatisfied()) {
                 return Result.TRUE;
             } else {
-                for (String entry : missing) {
+                int i = 0;
+                for (String entry : dependency.requiredProperties) {
+                    if (found.get(dependency.requiredSlots[i++])) {
+                        continue;
+                    }
                     Problem p = createProblemBuilder(getContext())
                             .withMessage(Message.INSTANCE_PROBLEM_DEPENDENCIES)
                             .withParameter("required", entry)
@@ -535,8 +603,8 @@ public class Dependencies extends Applicator implements ObjectKeyword {
      */
     private class NegatedPropertyDependencyEvaluator extends PropertyDependencyEvaluator {
 
-        NegatedPropertyDependencyEvaluator(EvaluatorContext context, String property, Set<String> required) {
-            super(context, property, required);
+        NegatedPropertyDependencyEvaluator(EvaluatorContext context, PropertyDependency dependency) {
+            super(context, dependency);
         }
 
         @Override
@@ -546,6 +614,7 @@ public class Dependencies extends Applicator implements ObjectKeyword {
 
         @Override
         protected Result test(ProblemDispatcher dispatcher) {
+            Set<String> required = dependency.requiredProperties;
             if (required.isEmpty()) {
                 Problem p = createProblemBuilder(getContext())
                         .withMessage(Message.INSTANCE_PROBLEM_NOT_REQUIRED)
@@ -553,7 +622,7 @@ public class Dependencies extends Applicator implements ObjectKeyword {
                         .build();
                 dispatcher.dispatchProblem(p);
                 return Result.FALSE;
-            } else if (missing.isEmpty()) {
+            } else if (isSatisfied()) {
                 ProblemBuilder b = createProblemBuilder(getContext())
                         .withParameter("dependant", property);
                 if (required.size() == 1) {
@@ -578,14 +647,14 @@ public class Dependencies extends Applicator implements ObjectKeyword {
      */
     private class ForbiddenDependantEvaluator extends DependencyEvaluator {
 
-        ForbiddenDependantEvaluator(EvaluatorContext context, String property) {
-            super(context, property);
+        ForbiddenDependantEvaluator(EvaluatorContext context, Dependency dependency) {
+            super(context, dependency);
         }
 
         @Override
         public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
             if (depth == 1 && event == Event.KEY_NAME) {
-                if (getParser().getString().equals(property)) {
+                if (getKeySlot() == slot) {
                     return dispatchProblem(dispatcher);
                 }
             } else if (depth == 0 && event == Event.END_OBJECT) {
@@ -594,6 +663,11 @@ public class Dependencies extends Applicator implements ObjectKeyword {
             return Result.PENDING;
         }
 
+        @Override
+        public boolean ignoresSubtree(int depth) {
+            return depth > 0;
+        }
+
         private Result dispatchProblem(ProblemDispatcher dispatcher) {
             Problem problem = createProblemBuilder(getContext())
                     .withMessage(Message.INSTANCE_PROBLEM_NOT_REQUIRED)
@@ -609,8 +683,8 @@ public class Dependencies extends Applicator implements ObjectKeyword {
      */
     private class NegatedForbiddenDependantEvaluator extends ForbiddenDependantEvaluator {
 
-        NegatedForbiddenDependantEvaluator(EvaluatorContext context, String property) {
-            super(context, property);
+        NegatedForbiddenDependantEvaluator(EvaluatorContext context, Dependency dependency) {
+            super(context, dependency);
         }
 
         @Override
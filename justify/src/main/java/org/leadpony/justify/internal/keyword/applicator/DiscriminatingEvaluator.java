@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword.applicator;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+import javax.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.ProblemDispatcher;
+import org.leadpony.justify.internal.base.json.ParserEvents;
+import org.leadpony.justify.internal.evaluator.EventBuffer;
+import org.leadpony.justify.internal.problem.SilentProblemDispatcher;
+
+/**
+ * An evaluator of {@link AnyOf} or {@link OneOf} with a discriminator.
+ *
+ * <p>
+ * When validating silently, the events of the object are buffered until the
+ * value of the discriminator arrives, and then replayed only to the
+ * subschemas which can be valid for the value. If the buffer overflows, all
+ * the subschemas receive the buffered events. Otherwise the subschemas are
+ * evaluated as usual because the problems of all of them may be reported.
+ * </p>
+ *
+ * @author leadpony
+ */
+class DiscriminatingEvaluator implements Evaluator {
+
+    private final EvaluatorContext context;
+    private final Discriminator discriminator;
+    private final int bufferSize;
+    private final BiFunction<EvaluatorContext, Predicate<JsonSchema>, Evaluator> factory;
+
+    private EventBuffer buffer;
+    private boolean discriminatorFound;
+    private Evaluator delegate;
+
+    /**
+     * Constructs this evaluator.
+     *
+     * @param context       the context of the evaluator.
+     * @param discriminator the discriminator of the subschemas.
+     * @param bufferSize    the maximum number of events to buffer.
+     * @param factory       the factory of the evaluator for the subschemas
+     *                      accepted by the predicate.
+     */
+    DiscriminatingEvaluator(EvaluatorContext context, Discriminator discriminator, int bufferSize,
+            BiFunction<EvaluatorContext, Predicate<JsonSchema>, Evaluator> factory) {
+        this.context = context;
+        this.discriminator = discriminator;
+        this.bufferSize = bufferSize;
+        this.factory = factory;
+    }
+
+    @Override
+    public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
+        if (delegate != null) {
+            return delegate.evaluate(event, depth, dispatcher);
+        }
+        if (buffer == null) {
+            if (dispatcher != SilentProblemDispatcher.SINGLETON) {
+                delegate = factory.apply(context, s -> true);
+                return delegate.evaluate(event, depth, dispatcher);
+            }
+            buffer = new EventBuffer(context, bufferSize, false);
+        }
+
+        if (depth == 1 && discriminatorFound) {
+            List<JsonSchema> candidates = discriminator.findCandidates(context,
+                    ParserEvents.toBroadInstanceType(event));
+            if (candidates.isEmpty()) {
+                return Result.FALSE;
+            }
+            return replay(candidates::contains, event, depth, dispatcher);
+        } else if (depth == 0 && event == Event.END_OBJECT) {
+            // Every subschema requires the discriminator.
+            return Result.FALSE;
+        }
+
+        if (depth == 1 && event == Event.KEY_NAME) {
+            discriminatorFound = discriminator.getName().equals(context.getStringValue());
+        }
+        if (!buffer.add(event, depth)) {
+            return replay(s -> true, event, depth, dispatcher);
+        }
+        return Result.PENDING;
+    }
+
+    @Override
+    public boolean ignoresSubtree(int depth) {
+        // All the events must be buffered until the evaluator is determined.
+        return delegate != null && delegate.ignoresSubtree(depth);
+    }
+
+    private Result replay(Predicate<JsonSchema> candidates, Event event, int depth, ProblemDispatcher dispatcher) {
+        EventBuffer replayed = this.buffer;
+        this.buffer = null;
+        replayed.startReplay();
+        delegate = factory.apply(replayed, candidates);
+        Result result = replayed.replay(delegate, dispatcher);
+        if (result != Result.PENDING) {
+            return result;
+        }
+        return delegate.evaluate(event, depth, dispatcher);
+    }
+}
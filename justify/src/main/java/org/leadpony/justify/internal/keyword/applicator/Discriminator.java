@@ -0,0 +1,176 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword.applicator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.JsonValue.ValueType;
+
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.Keyword;
+import org.leadpony.justify.api.ObjectJsonSchema;
+import org.leadpony.justify.internal.keyword.InstanceFilter;
+import org.leadpony.justify.internal.keyword.SchemaKeyword;
+import org.leadpony.justify.internal.keyword.assertion.Required;
+import org.leadpony.justify.internal.schema.SchemaReference;
+
+/**
+ * A property of objects which tells the subschemas of {@link AnyOf} or
+ * {@link OneOf} that can be valid, such as {@code "kind"} required by every
+ * subschema and restricted by {@code const} or {@code enum} keyword in each
+ * of them.
+ *
+ * @author leadpony
+ */
+final class Discriminator {
+
+    private final String name;
+    private final Map<JsonSchema, InstanceFilter[]> filters;
+
+    /**
+     * Finds the discriminator of the specified subschemas.
+     *
+     * @param subschemas the subschemas of the boolean logic.
+     * @return the discriminator found, or {@code null} if the subschemas do not
+     *         have any discriminator.
+     */
+    static Discriminator find(List<JsonSchema> subschemas) {
+        Map<JsonSchema, ObjectJsonSchema> branches = new LinkedHashMap<>();
+        for (JsonSchema subschema : subschemas) {
+            JsonSchema target = NaryBooleanLogic.dereference(subschema);
+            if (target instanceof SchemaReference || !(target instanceof ObjectJsonSchema)) {
+                return null;
+            }
+            branches.put(subschema, (ObjectJsonSchema) target);
+        }
+        if (branches.size() < 2) {
+            return null;
+        }
+        ObjectJsonSchema first = branches.values().iterator().next();
+        for (String name : getRequiredNames(first)) {
+            Map<JsonSchema, InstanceFilter[]> filters = new LinkedHashMap<>();
+            for (Map.Entry<JsonSchema, ObjectJsonSchema> entry : branches.entrySet()) {
+                InstanceFilter[] found = findFilters(entry.getValue(), name);
+                if (found == null) {
+                    break;
+                }
+                filters.put(entry.getKey(), found);
+            }
+            if (filters.size() == branches.size()) {
+                return new Discriminator(name, filters);
+            }
+        }
+        return null;
+    }
+
+    private Discriminator(String name, Map<JsonSchema, InstanceFilter[]> filters) {
+        this.name = name;
+        this.filters = filters;
+    }
+
+    /**
+     * Returns the name of this discriminator.
+     *
+     * @return the name of the property.
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Finds the subschemas which can be valid for the current value of this
+     * discriminator. All the other subschemas are invalid.
+     *
+     * @param context the context providing the current value.
+     * @param type    the type of the current value.
+     * @return the subschemas which can be valid, may be empty.
+     */
+    List<JsonSchema> findCandidates(EvaluatorContext context, InstanceType type) {
+        List<JsonSchema> candidates = new ArrayList<>();
+        for (Map.Entry<JsonSchema, InstanceFilter[]> entry : filters.entrySet()) {
+            if (mayAccept(entry.getValue(), context, type)) {
+                candidates.add(entry.getKey());
+            }
+        }
+        return candidates;
+    }
+
+    private static boolean mayAccept(InstanceFilter[] filters, EvaluatorContext context, InstanceType type) {
+        for (InstanceFilter filter : filters) {
+            if (!filter.mayAccept(context, type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the filters of the required property in the specified schema.
+     *
+     * @param schema the schema to search.
+     * @param name   the name of the property.
+     * @return the filters of the property value, or {@code null} if the
+     *         property is not required or not restricted by {@code const} or
+     *         {@code enum} keyword.
+     */
+    private static InstanceFilter[] findFilters(ObjectJsonSchema schema, String name) {
+        if (!getRequiredNames(schema).contains(name)) {
+            return null;
+        }
+        Keyword keyword = schema.get("properties");
+        if (!(keyword instanceof SchemaKeyword)) {
+            return null;
+        }
+        JsonSchema subschema = ((SchemaKeyword) keyword).getSubschema(
+                Collections.singletonList(name).iterator());
+        if (subschema == null) {
+            return null;
+        }
+        InstanceFilter[] found = NaryBooleanLogic.collectFilters(subschema);
+        for (InstanceFilter filter : found) {
+            if (filter instanceof Keyword) {
+                String filterName = ((Keyword) filter).name();
+                if (filterName.equals("const") || filterName.equals("enum")) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<String> getRequiredNames(ObjectJsonSchema schema) {
+        Keyword keyword = schema.get("required");
+        if (!(keyword instanceof Required)) {
+            return Collections.emptyList();
+        }
+        List<String> names = new ArrayList<>();
+        for (JsonValue value : keyword.getValueAsJson().asJsonArray()) {
+            if (value.getValueType() == ValueType.STRING) {
+                names.add(((JsonString) value).getString());
+            }
+        }
+        return names;
+    }
+}
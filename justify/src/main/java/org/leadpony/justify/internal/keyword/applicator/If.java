@@ -29,6 +29,7 @@ import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.annotation.KeywordType;
 import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.evaluator.ConditionalEvaluator;
+import org.leadpony.justify.internal.evaluator.LazyConditionalEvaluator;
 import org.leadpony.justify.internal.keyword.Evaluatable;
 import org.leadpony.justify.internal.keyword.KeywordMapper;
 import org.leadpony.justify.internal.keyword.SchemaKeyword;
@@ -45,6 +46,12 @@ public class If extends Conditional {
     private JsonSchema thenSchema;
     private JsonSchema elseSchema;
 
+    /*
+     * Whether "then" and "else" are evaluated only after "if" is resolved, for
+     * arrays and objects.
+     */
+    private boolean lazyForContainers;
+
     /**
      * Returns the mapper which maps a JSON value to this keyword.
      *
@@ -61,6 +68,12 @@ public class If extends Conditional {
 
     @Override
     protected Evaluator doCreateEvaluator(EvaluatorContext context, InstanceType type) {
+        if (isLazy(type)) {
+            return new LazyConditionalEvaluator(context,
+                    c -> getSubschema().createEvaluator(c, type),
+                    c -> thenSchema != null ? thenSchema.createEvaluator(c, type) : Evaluator.ALWAYS_TRUE,
+                    c -> elseSchema != null ? elseSchema.createEvaluator(c, type) : Evaluator.ALWAYS_TRUE);
+        }
         Evaluator ifEvaluator = getSubschema().createEvaluator(context, type);
         Evaluator thenEvaluator = thenSchema != null ? thenSchema.createEvaluator(context, type)
                 : Evaluator.ALWAYS_TRUE;
@@ -71,6 +84,14 @@ public class If extends Conditional {
 
     @Override
     protected Evaluator doCreateNegatedEvaluator(EvaluatorContext context, InstanceType type) {
+        if (isLazy(type)) {
+            return new LazyConditionalEvaluator(context,
+                    c -> getSubschema().createEvaluator(c, type),
+                    c -> thenSchema != null ? thenSchema.createNegatedEvaluator(c, type)
+                            : getSubschema().createNegatedEvaluator(c, type),
+                    c -> elseSchema != null ? elseSchema.createNegatedEvaluator(c, type)
+                            : getSubschema().createEvaluator(c, type));
+        }
         Evaluator ifEvaluator = getSubschema().createEvaluator(context, type);
         Evaluator thenEvaluator = thenSchema != null ? thenSchema.createNegatedEvaluator(context, type)
                 : getSubschema().createNegatedEvaluator(context, type);
@@ -94,7 +115,52 @@ public class If extends Conditional {
             }
         }
         if (thenSchema != null || elseSchema != null) {
+            lazyForContainers = sizeOf(thenSchema) + sizeOf(elseSchema) > sizeOf(getSubschema());
             evaluatables.add(this);
         }
     }
+
+    /**
+     * Checks whether "then" and "else" should be evaluated only after "if" is
+     * resolved. Scalar values are always evaluated in this way, because "if" is
+     * resolved at the first event. The events of arrays and objects must be
+     * recorded until then, which pays off only when "then" and "else" are
+     * heavier than "if".
+     *
+     * @param type the type of the instance.
+     * @return {@code true} if "then" and "else" should be evaluated lazily.
+     */
+    private boolean isLazy(InstanceType type) {
+        return !type.isContainer() || lazyForContainers;
+    }
+
+    /**
+     * Returns the size of the specified schema as a hint of the cost to evaluate
+     * it, which is the number of the values in its JSON representation.
+     *
+     * @param schema the schema, may be {@code null}.
+     * @return the size of the schema.
+     */
+    private static int sizeOf(JsonSchema schema) {
+        return (schema != null) ? sizeOf(schema.toJson()) : 0;
+    }
+
+    private static int sizeOf(JsonValue value) {
+        int size = 1;
+        switch (value.getValueType()) {
+        case ARRAY:
+            for (JsonValue item : value.asJsonArray()) {
+                size += sizeOf(item);
+            }
+            break;
+        case OBJECT:
+            for (JsonValue member : value.asJsonObject().values()) {
+                size += sizeOf(member);
+            }
+            break;
+        default:
+            break;
+        }
+        return size;
+    }
 }
@@ -18,8 +18,13 @@ package org.leadpony.justify.internal.keyword.applicator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import javax.json.JsonValue;
@@ -27,7 +32,11 @@ import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.Keyword;
+import org.leadpony.justify.api.ObjectJsonSchema;
 import org.leadpony.justify.internal.evaluator.LogicalEvaluator;
+import org.leadpony.justify.internal.keyword.InstanceFilter;
+import org.leadpony.justify.internal.schema.SchemaReference;
 
 /**
  * N-ary boolean logic. This class is the abstract base class for {@link AllOf},
@@ -37,11 +46,38 @@ import org.leadpony.justify.internal.evaluator.LogicalEvaluator;
  */
 abstract class NaryBooleanLogic extends Applicator {
 
+    private static final InstanceFilter[] NO_FILTERS = {};
+    private static final InstanceFilter[] REJECTING_FILTERS = {(context, type) -> false};
+    private static final int MAX_REFERENCE_DEPTH = 16;
+
     private final List<JsonSchema> subschemas;
+    private final int discriminatorBufferSize;
+
+    /*
+     * The filters found in each subschema. These are collected at the first use
+     * because the references in the subschemas are resolved after this keyword
+     * was created.
+     */
+    private volatile Map<JsonSchema, InstanceFilter[]> filters;
+    private volatile Optional<Discriminator> discriminator;
 
     protected NaryBooleanLogic(JsonValue json, Collection<JsonSchema> subschemas) {
+        this(json, subschemas, 0);
+    }
+
+    /**
+     * Constructs this keyword.
+     *
+     * @param json                    the JSON representation of this keyword.
+     * @param subschemas              the subschemas of this keyword.
+     * @param discriminatorBufferSize the maximum number of events buffered until
+     *                                the discriminator of the subschemas is
+     *                                found. Zero disables the discriminator.
+     */
+    protected NaryBooleanLogic(JsonValue json, Collection<JsonSchema> subschemas, int discriminatorBufferSize) {
         super(json);
         this.subschemas = new ArrayList<>(subschemas);
+        this.discriminatorBufferSize = discriminatorBufferSize;
     }
 
     @Override
@@ -83,6 +119,60 @@ abstract class NaryBooleanLogic extends Applicator {
         return null;
     }
 
+    /**
+     * Checks if the current instance may be valid against the specified
+     * subschema, only by its type and scalar value.
+     *
+     * @param subschema the subschema of this keyword.
+     * @param context   the context of the evaluator to be created.
+     * @param type      the type of the instance to validate.
+     * @return {@code false} if the instance is never valid against the subschema,
+     *         {@code true} if it may be valid.
+     */
+    protected final boolean mayBeValid(JsonSchema subschema, EvaluatorContext context, InstanceType type) {
+        Map<JsonSchema, InstanceFilter[]> current = this.filters;
+        if (current == null) {
+            current = new HashMap<>();
+            for (JsonSchema s : subschemas) {
+                current.put(s, collectFilters(s));
+            }
+            this.filters = current;
+        }
+        for (InstanceFilter filter : current.get(subschema)) {
+            if (!filter.mayAccept(context, type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates an evaluator which evaluates an object only against the
+     * subschemas selected by the discriminator of the subschemas.
+     *
+     * @param context the context of the evaluator to be created.
+     * @param type    the type of the instance to validate.
+     * @param factory the factory of the evaluator for the subschemas accepted by
+     *                the predicate.
+     * @return newly created evaluator, or {@code null} if the instance is not an
+     *         object or the subschemas have no discriminator.
+     */
+    protected final Evaluator createDiscriminatingEvaluator(EvaluatorContext context, InstanceType type,
+            BiFunction<EvaluatorContext, Predicate<JsonSchema>, Evaluator> factory) {
+        if (type != InstanceType.OBJECT || discriminatorBufferSize == 0 || context.acceptsDefaultValues()) {
+            return null;
+        }
+        Optional<Discriminator> current = this.discriminator;
+        if (current == null) {
+            current = Optional.ofNullable(Discriminator.find(subschemas));
+            this.discriminator = current;
+        }
+        if (!current.isPresent()) {
+            return null;
+        }
+        return new DiscriminatingEvaluator(context, current.get(), discriminatorBufferSize, factory);
+    }
+
     /**
      * Creates a new evaluator for this boolean logic.
      *
@@ -100,4 +190,44 @@ abstract class NaryBooleanLogic extends Applicator {
      * @return newly created evaluator.
      */
     protected abstract LogicalEvaluator createNegatedLogicalEvaluator(EvaluatorContext context, InstanceType type);
+
+    /**
+     * Returns the schema referenced by the specified schema, following the
+     * references up to a limited depth.
+     *
+     * @param schema the schema which may be a reference.
+     * @return the schema referenced, or the specified schema itself if it is not
+     *         a reference. This may still be a reference if the limit is
+     *         reached, or {@code null} if the reference is not resolved.
+     */
+    static JsonSchema dereference(JsonSchema schema) {
+        int depth = 0;
+        while (schema instanceof SchemaReference && depth++ < MAX_REFERENCE_DEPTH) {
+            schema = ((SchemaReference) schema).getReferencedSchema();
+        }
+        return schema;
+    }
+
+    /**
+     * Collects the filters of the instance from the keywords of the specified
+     * schema.
+     *
+     * @param schema the schema to search.
+     * @return the filters found in the schema, may be empty.
+     */
+    static InstanceFilter[] collectFilters(JsonSchema schema) {
+        schema = dereference(schema);
+        if (schema == JsonSchema.FALSE) {
+            return REJECTING_FILTERS;
+        } else if (schema instanceof SchemaReference || !(schema instanceof ObjectJsonSchema)) {
+            return NO_FILTERS;
+        }
+        List<InstanceFilter> found = new ArrayList<>();
+        for (Keyword keyword : ((ObjectJsonSchema) schema).values()) {
+            if (keyword instanceof InstanceFilter) {
+                found.add((InstanceFilter) keyword);
+            }
+        }
+        return found.isEmpty() ? NO_FILTERS : found.toArray(NO_FILTERS);
+    }
 }
@@ -21,7 +21,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -32,6 +31,7 @@ import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.annotation.KeywordType;
 import org.leadpony.justify.internal.annotation.Spec;
+import org.leadpony.justify.internal.base.regex.MultiPattern;
 import org.leadpony.justify.internal.keyword.Evaluatable;
 import org.leadpony.justify.internal.keyword.KeywordMapper;
 import org.leadpony.justify.internal.keyword.SchemaKeyword;
@@ -45,6 +45,9 @@ import org.leadpony.justify.internal.keyword.SchemaKeyword;
 @Spec(SpecVersion.DRAFT_07)
 public class PatternProperties extends AbstractProperties<Pattern> {
 
+    private final MultiPattern multiPattern;
+    private final JsonSchema[] subschemas;
+
     /**
      * Returns the mapper which maps a JSON value to this keyword.
      *
@@ -69,6 +72,8 @@ public class PatternProperties extends AbstractProperties<Pattern> {
 
     public PatternProperties(JsonValue json, Map<Pattern, JsonSchema> properties) {
         super(json, properties);
+        this.multiPattern = new MultiPattern(properties.keySet());
+        this.subschemas = properties.values().toArray(new JsonSchema[properties.size()]);
     }
 
     @Override
@@ -94,14 +99,6 @@ public class PatternProperties extends AbstractProperties<Pattern> {
 
     @Override
     protected boolean findSubschemas(String keyName, Consumer<JsonSchema> consumer) {
-        boolean found = false;
-        for (Pattern pattern : propertyMap.keySet()) {
-            Matcher m = pattern.matcher(keyName);
-            if (m.find()) {
-                consumer.accept(propertyMap.get(pattern));
-                found = true;
-            }
-        }
-        return found;
+        return multiPattern.findAll(keyName, index -> consumer.accept(subschemas[index]));
     }
 }
@@ -36,6 +36,7 @@ import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.evaluator.EvaluatorDecorator;
 import org.leadpony.justify.internal.keyword.Evaluatable;
 import org.leadpony.justify.internal.keyword.KeywordMapper;
+import org.leadpony.justify.internal.keyword.PropertyDispatchTable;
 import org.leadpony.justify.internal.keyword.SchemaKeyword;
 
 /**
@@ -81,6 +82,12 @@ public class Properties extends AbstractProperties<String> {
         evaluatables.add(this);
     }
 
+    @Override
+    public void declareProperties(PropertyDispatchTable.Builder builder) {
+        super.declareProperties(builder);
+        propertyMap.keySet().forEach(builder::withProperty);
+    }
+
     @Override
     public JsonSchema getSubschema(Iterator<String> jsonPointer) {
         if (jsonPointer.hasNext()) {
@@ -148,7 +155,7 @@ public class Properties extends AbstractProperties<String> {
         public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
             Result result = super.evaluate(event, depth, dispatcher);
             if (depth == 1 && event == Event.KEY_NAME) {
-                defaultValues.remove(getParser().getString());
+                defaultValues.remove(getContext().getStringValue());
             } else if (depth == 0 && event == Event.END_OBJECT) {
                 if (!defaultValues.isEmpty()) {
                     supplyDefaultValues();
@@ -31,6 +31,7 @@ import org.leadpony.justify.api.Evaluator.Result;
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.internal.annotation.KeywordType;
 import org.leadpony.justify.internal.annotation.Spec;
+import org.leadpony.justify.internal.base.DirectMappedCache;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.evaluator.AbstractConjunctivePropertiesEvaluator;
 import org.leadpony.justify.internal.evaluator.AbstractDisjunctivePropertiesEvaluator;
@@ -48,6 +49,13 @@ import org.leadpony.justify.internal.problem.ProblemBuilder;
 @Spec(SpecVersion.DRAFT_07)
 public class PropertyNames extends UnaryCombiner {
 
+    private static final int CACHE_SIZE = 256;
+    // Longer names are validated every time.
+    private static final int MAX_CACHED_NAME_LENGTH = 256;
+
+    // The names known to be valid, shared by all threads.
+    private final DirectMappedCache<String, Boolean> validNames = new DirectMappedCache<>(CACHE_SIZE);
+
     /**
      * Returns the mapper which maps a JSON value to this keyword.
      *
@@ -117,12 +125,37 @@ public class PropertyNames extends UnaryCombiner {
             @Override
             public void updateChildren(Event event, JsonParser parser) {
                 if (event == Event.KEY_NAME) {
-                    append(subschema.createEvaluator(context, InstanceType.STRING));
+                    String keyName = context.getStringValue();
+                    if (keyName.length() > MAX_CACHED_NAME_LENGTH) {
+                        append(subschema.createEvaluator(context, InstanceType.STRING));
+                    } else if (validNames.get(keyName) == null) {
+                        append(createMemoizingEvaluator(
+                                subschema.createEvaluator(context, InstanceType.STRING), keyName));
+                    }
                 }
             }
         };
     }
 
+    /**
+     * Creates an evaluator which remembers the name if it is valid. Only the
+     * valid names are remembered because the invalid ones must be reported with
+     * the problems found.
+     *
+     * @param evaluator the evaluator of the name.
+     * @param keyName   the name of the property.
+     * @return the evaluator created.
+     */
+    private Evaluator createMemoizingEvaluator(Evaluator evaluator, String keyName) {
+        return (event, depth, dispatcher) -> {
+            Result result = evaluator.evaluate(event, depth, dispatcher);
+            if (result == Result.TRUE) {
+                validNames.put(keyName, Boolean.TRUE);
+            }
+            return result;
+        };
+    }
+
     private Evaluator createNegatedPropertiesEvaluator(EvaluatorContext context, JsonSchema subschema) {
         return new AbstractDisjunctivePropertiesEvaluator(context, this) {
             @Override
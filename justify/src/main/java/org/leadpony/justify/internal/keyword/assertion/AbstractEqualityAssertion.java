@@ -16,69 +16,128 @@
 
 package org.leadpony.justify.internal.keyword.assertion;
 
-import javax.json.JsonBuilderFactory;
+import java.util.Collection;
+
 import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
 
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.Problem;
-import org.leadpony.justify.api.Evaluator.Result;
+import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.internal.base.json.JsonInstanceBuilder;
+import org.leadpony.justify.internal.evaluator.AbstractEvaluator;
+import org.leadpony.justify.internal.keyword.InstanceFilter;
+import org.leadpony.justify.internal.keyword.assertion.ExpectedValues.StructureMatcher;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
+import org.leadpony.justify.internal.problem.SilentProblemDispatcher;
 
 /**
  * The base class of {@link Const} and {@link Enum}.
  *
+ * <p>
+ * The instance is built as a {@link JsonValue} only when it must be reported in
+ * a problem.
+ * </p>
+ *
  * @author leadpony
  */
-abstract class AbstractEqualityAssertion extends AbstractAssertion {
+abstract class AbstractEqualityAssertion extends AbstractAssertion implements InstanceFilter {
+
+    private final ExpectedValues expectedValues;
 
-    protected AbstractEqualityAssertion(JsonValue json) {
+    protected AbstractEqualityAssertion(JsonValue json, Collection<JsonValue> expected) {
         super(json);
+        this.expectedValues = new ExpectedValues(expected);
     }
 
     @Override
     protected Evaluator doCreateEvaluator(EvaluatorContext context, InstanceType type) {
-        JsonBuilderFactory jsonBuilderFactory = context.getJsonBuilderFactory();
-        JsonInstanceBuilder builder = new JsonInstanceBuilder(jsonBuilderFactory);
-        return (event, depth, dispatcher) -> {
-            if (builder.append(event, context.getParser())) {
-                return Result.PENDING;
-            }
-            JsonValue value = builder.build();
-            if (testValue(value)) {
-                return Result.TRUE;
-            }
-            ProblemBuilder problemBuilder = createProblemBuilder(context)
-                    .withParameter("actual", value);
-            dispatcher.dispatchProblem(createProblem(problemBuilder));
-            return Result.FALSE;
-        };
+        return new AssertionEvaluator(context, false);
     }
 
     @Override
     protected Evaluator doCreateNegatedEvaluator(EvaluatorContext context, InstanceType type) {
-        JsonBuilderFactory jsonBuilderFactory = context.getJsonBuilderFactory();
-        JsonInstanceBuilder builder = new JsonInstanceBuilder(jsonBuilderFactory);
-        return (event, depth, dispatcher) -> {
-            if (builder.append(event, context.getParser())) {
-                return Result.PENDING;
-            }
-            JsonValue value = builder.build();
-            if (!testValue(value)) {
-                return Result.TRUE;
-            }
-            ProblemBuilder problemBuilder = createProblemBuilder(context)
-                    .withParameter("actual", value);
-            dispatcher.dispatchProblem(createNegatedProblem(problemBuilder));
-            return Result.FALSE;
-        };
+        return new AssertionEvaluator(context, true);
     }
 
-    protected abstract boolean testValue(JsonValue value);
+    @Override
+    public boolean mayAccept(EvaluatorContext context, InstanceType type) {
+        return expectedValues.mayContain(type, context);
+    }
 
     protected abstract Problem createProblem(ProblemBuilder builder);
 
     protected abstract Problem createNegatedProblem(ProblemBuilder builder);
+
+    /**
+     * An evaluator of this assertion.
+     *
+     * @author leadpony
+     */
+    private class AssertionEvaluator extends AbstractEvaluator {
+
+        private final boolean negated;
+        private StructureMatcher matcher;
+        private JsonInstanceBuilder builder;
+
+        AssertionEvaluator(EvaluatorContext context, boolean negated) {
+            super(context);
+            this.negated = negated;
+        }
+
+        @Override
+        public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
+            final JsonParser parser = getParser();
+            if (matcher == null) {
+                if (event != Event.START_ARRAY && event != Event.START_OBJECT) {
+                    return evaluateScalar(event, parser, dispatcher);
+                }
+                matcher = expectedValues.createMatcher(event);
+                if (dispatcher != SilentProblemDispatcher.SINGLETON) {
+                    builder = new JsonInstanceBuilder(getContext().getJsonBuilderFactory());
+                }
+            }
+
+            boolean continued = matcher.append(event, parser);
+            if (builder != null) {
+                builder.append(event, parser);
+            } else if (matcher.isFailed()) {
+                // No need to wait for the end of the value.
+                return negated ? Result.TRUE : Result.FALSE;
+            }
+
+            if (continued) {
+                return Result.PENDING;
+            }
+            return conclude(matcher.isMatched(), dispatcher, builder);
+        }
+
+        private Result evaluateScalar(Event event, JsonParser parser, ProblemDispatcher dispatcher) {
+            boolean matched = expectedValues.containsScalar(event, getContext());
+            JsonInstanceBuilder builder = null;
+            if (matched == negated && dispatcher != SilentProblemDispatcher.SINGLETON) {
+                builder = new JsonInstanceBuilder(getContext().getJsonBuilderFactory());
+                builder.append(event, parser);
+            }
+            return conclude(matched, dispatcher, builder);
+        }
+
+        private Result conclude(boolean matched, ProblemDispatcher dispatcher, JsonInstanceBuilder builder) {
+            if (matched != negated) {
+                return Result.TRUE;
+            }
+            if (builder != null) {
+                ProblemBuilder problemBuilder = createProblemBuilder(getContext())
+                        .withParameter("actual", builder.build());
+                Problem problem = negated
+                        ? createNegatedProblem(problemBuilder)
+                        : createProblem(problemBuilder);
+                dispatcher.dispatchProblem(problem);
+            }
+            return Result.FALSE;
+        }
+    }
 }
@@ -16,8 +16,6 @@
 
 package org.leadpony.justify.internal.keyword.assertion;
 
-import java.math.BigDecimal;
-
 import javax.json.JsonValue;
 import javax.json.stream.JsonParser.Event;
 
@@ -26,6 +24,7 @@ import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.ProblemDispatcher;
+import org.leadpony.justify.internal.base.json.NumericValue;
 import org.leadpony.justify.internal.keyword.NumericKeyword;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 
@@ -42,7 +41,7 @@ abstract class AbstractNumericAssertion extends AbstractAssertion implements Num
 
     @Override
     protected Evaluator doCreateEvaluator(EvaluatorContext context, InstanceType type) {
-        BigDecimal value = context.getParser().getBigDecimal();
+        NumericValue value = NumericValue.of(context);
         if (testValue(value)) {
             return Evaluator.ALWAYS_TRUE;
         }
@@ -50,7 +49,7 @@ abstract class AbstractNumericAssertion extends AbstractAssertion implements Num
             @Override
             public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
                 ProblemBuilder builder = createProblemBuilder(context)
-                        .withParameter("actual", value);
+                        .withParameter("actual", value.decimalValue());
                 dispatcher.dispatchProblem(createProblem(builder));
                 return Result.FALSE;
             }
@@ -59,7 +58,7 @@ abstract class AbstractNumericAssertion extends AbstractAssertion implements Num
 
     @Override
     protected Evaluator doCreateNegatedEvaluator(EvaluatorContext context, InstanceType type) {
-        BigDecimal value = context.getParser().getBigDecimal();
+        NumericValue value = NumericValue.of(context);
         if (!testValue(value)) {
             return Evaluator.ALWAYS_TRUE;
         }
@@ -67,14 +66,20 @@ abstract class AbstractNumericAssertion extends AbstractAssertion implements Num
             @Override
             public Result evaluate(Event event, int depth, ProblemDispatcher dispatcher) {
                 ProblemBuilder builder = createProblemBuilder(context)
-                        .withParameter("actual", value);
+                        .withParameter("actual", value.decimalValue());
                 dispatcher.dispatchProblem(createNegatedProblem(builder));
                 return Result.FALSE;
             }
         };
     }
 
-    protected abstract boolean testValue(BigDecimal value);
+    /**
+     * Tests the number against this assertion.
+     *
+     * @param value the number classified once for all numeric keywords.
+     * @return {@code true} if the number is valid, {@code false} otherwise.
+     */
+    protected abstract boolean testValue(NumericValue value);
 
     protected abstract Problem createProblem(ProblemBuilder builder);
 
@@ -21,6 +21,7 @@ import java.math.BigDecimal;
 import javax.json.JsonValue;
 import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.internal.base.Message;
+import org.leadpony.justify.internal.base.json.NumericValue;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 
 /**
@@ -29,6 +30,7 @@ import org.leadpony.justify.internal.problem.ProblemBuilder;
 abstract class AbstractNumericBoundAssertion extends AbstractNumericAssertion {
 
     private final BigDecimal limit;
+    private final NumericValue limitValue;
 
     /**
      * Constructs this assertion.
@@ -38,11 +40,12 @@ abstract class AbstractNumericBoundAssertion extends AbstractNumericAssertion {
     protected AbstractNumericBoundAssertion(JsonValue json, BigDecimal limit) {
         super(json);
         this.limit = limit;
+        this.limitValue = new NumericValue(limit);
     }
 
     @Override
-    protected boolean testValue(BigDecimal value) {
-        return testValue(value, this.limit);
+    protected boolean testValue(NumericValue value) {
+        return testComparison(value.compareTo(this.limitValue));
     }
 
     @Override
@@ -62,11 +65,11 @@ abstract class AbstractNumericBoundAssertion extends AbstractNumericAssertion {
     /**
      * Tests a value against the boundary.
      *
-     * @param actual the value to test.
-     * @param limit the limit of the boundary.
+     * @param comparison the result of comparing the value with the limit of the
+     *                   boundary, which is negative, zero or positive.
      * @return {@code true} if the value valid, {@code false} otherwise.
      */
-    protected abstract boolean testValue(BigDecimal actual, BigDecimal limit);
+    protected abstract boolean testComparison(int comparison);
 
     protected abstract Message getMessageForTest();
 
@@ -41,7 +41,7 @@ abstract class AbstractStringAssertion extends AbstractAssertion implements Stri
 
     @Override
     protected Evaluator doCreateEvaluator(EvaluatorContext context, InstanceType type) {
-        String value = context.getParser().getString();
+        String value = context.getStringValue();
         if (testValue(value)) {
             return Evaluator.ALWAYS_TRUE;
         }
@@ -57,7 +57,7 @@ abstract class AbstractStringAssertion extends AbstractAssertion implements Stri
 
     @Override
     protected Evaluator doCreateNegatedEvaluator(EvaluatorContext context, InstanceType type) {
-        String value = context.getParser().getString();
+        String value = context.getStringValue();
         if (!testValue(value)) {
             return Evaluator.ALWAYS_TRUE;
         }
@@ -16,6 +16,8 @@
 
 package org.leadpony.justify.internal.keyword.assertion;
 
+import java.util.Collections;
+
 import javax.json.JsonValue;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.Problem;
@@ -46,12 +48,7 @@ public class Const extends AbstractEqualityAssertion {
     }
 
     public Const(JsonValue expected) {
-        super(expected);
-    }
-
-    @Override
-    protected boolean testValue(JsonValue value) {
-        return value.equals(getValueAsJson());
+        super(expected, Collections.singleton(expected));
     }
 
     @Override
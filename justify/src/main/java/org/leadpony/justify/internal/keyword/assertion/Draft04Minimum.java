@@ -64,11 +64,11 @@ public class Draft04Minimum extends Maximum {
     }
 
     @Override
-    protected boolean testValue(BigDecimal actual, BigDecimal limit) {
+    protected boolean testComparison(int comparison) {
         if (this.exclusive) {
-            return actual.compareTo(limit) > 0;
+            return comparison > 0;
         } else {
-            return actual.compareTo(limit) >= 0;
+            return comparison >= 0;
         }
     }
 
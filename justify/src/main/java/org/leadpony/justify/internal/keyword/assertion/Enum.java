@@ -61,20 +61,10 @@ public class Enum extends AbstractEqualityAssertion {
     }
 
     public Enum(JsonValue json, Set<JsonValue> expected) {
-        super(json);
+        super(json, expected);
         this.expected = expected;
     }
 
-    @Override
-    protected boolean testValue(JsonValue value) {
-        for (JsonValue expected : this.expected) {
-            if (value.equals(expected)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     @Override
     protected Problem createProblem(ProblemBuilder builder) {
         return builder.withMessage(Message.INSTANCE_PROBLEM_ENUM)
@@ -51,8 +51,8 @@ public class ExclusiveMinimum extends AbstractNumericBoundAssertion {
     }
 
     @Override
-    protected boolean testValue(BigDecimal actual, BigDecimal limit) {
-        return actual.compareTo(limit) > 0;
+    protected boolean testComparison(int comparison) {
+        return comparison > 0;
     }
 
     @Override
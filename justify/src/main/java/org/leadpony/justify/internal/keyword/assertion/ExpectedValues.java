@@ -0,0 +1,359 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.keyword.assertion;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.JsonValue.ValueType;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.InstanceType;
+
+/**
+ * An index of the values expected by {@link Const} or {@link Enum}.
+ *
+ * <p>
+ * Scalar values are looked up with hash sets. Arrays and objects are matched
+ * against the expected ones while the parser events arrive, so that they never
+ * need to be built.
+ * </p>
+ *
+ * @author leadpony
+ */
+final class ExpectedValues {
+
+    private final Set<String> strings = new HashSet<>();
+    private final Set<BigDecimal> numbers = new HashSet<>();
+    private boolean hasTrue;
+    private boolean hasFalse;
+    private boolean hasNull;
+    private final List<JsonValue> arrays = new ArrayList<>();
+    private final List<JsonValue> objects = new ArrayList<>();
+
+    /**
+     * Constructs this index.
+     *
+     * @param values the expected values.
+     */
+    ExpectedValues(Collection<JsonValue> values) {
+        for (JsonValue value : values) {
+            switch (value.getValueType()) {
+            case STRING:
+                strings.add(((JsonString) value).getString());
+                break;
+            case NUMBER:
+                numbers.add(normalize(((JsonNumber) value).bigDecimalValue()));
+                break;
+            case TRUE:
+                hasTrue = true;
+                break;
+            case FALSE:
+                hasFalse = true;
+                break;
+            case NULL:
+                hasNull = true;
+                break;
+            case ARRAY:
+                arrays.add(value);
+                break;
+            case OBJECT:
+                objects.add(value);
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    /**
+     * Checks if the current scalar value is one of the expected values.
+     *
+     * @param event   the event of the scalar value.
+     * @param context the context providing the current value.
+     * @return {@code true} if the value is expected, {@code false} otherwise.
+     */
+    boolean containsScalar(Event event, EvaluatorContext context) {
+        switch (event) {
+        case VALUE_STRING:
+        case KEY_NAME:
+            return !strings.isEmpty() && strings.contains(context.getStringValue());
+        case VALUE_NUMBER:
+            return !numbers.isEmpty() && numbers.contains(normalize(context.getDecimalValue()));
+        case VALUE_TRUE:
+            return hasTrue;
+        case VALUE_FALSE:
+            return hasFalse;
+        case VALUE_NULL:
+            return hasNull;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Checks if the current value may be one of the expected values. Scalar values
+     * are checked exactly, while arrays and objects are checked only by their
+     * types.
+     *
+     * @param type    the type of the current value.
+     * @param context the context providing the current value.
+     * @return {@code false} if the value is not expected, {@code true} if it may
+     *         be expected.
+     */
+    boolean mayContain(InstanceType type, EvaluatorContext context) {
+        switch (type) {
+        case STRING:
+            return !strings.isEmpty() && strings.contains(context.getStringValue());
+        case NUMBER:
+        case INTEGER:
+            return !numbers.isEmpty() && numbers.contains(normalize(context.getDecimalValue()));
+        case BOOLEAN:
+            if (!hasTrue && !hasFalse) {
+                return false;
+            }
+            return (context.getScalarValue().getValueType() == ValueType.TRUE) ? hasTrue : hasFalse;
+        case NULL:
+            return hasNull;
+        case ARRAY:
+            return !arrays.isEmpty();
+        case OBJECT:
+            return !objects.isEmpty();
+        default:
+            return true;
+        }
+    }
+
+    /**
+     * Creates a matcher of an array or object.
+     *
+     * @param event the event which starts the array or object.
+     * @return newly created matcher.
+     */
+    StructureMatcher createMatcher(Event event) {
+        List<JsonValue> candidates = (event == Event.START_ARRAY) ? arrays : objects;
+        return new StructureMatcher(candidates);
+    }
+
+    private static BigDecimal normalize(BigDecimal value) {
+        return value.stripTrailingZeros();
+    }
+
+    /**
+     * A matcher which compares an array or object with the expected ones event by
+     * event.
+     *
+     * <p>
+     * The position in the incoming value is shared by all candidates, and each
+     * candidate keeps only the stack of its nodes corresponding to the position.
+     * A candidate is dropped as soon as it diverges from the incoming events.
+     * </p>
+     *
+     * @author leadpony
+     */
+    static final class StructureMatcher {
+
+        private static final int INITIAL_CAPACITY = 4;
+
+        private final JsonValue[][] stacks;
+        private int alive;
+
+        private String[] keys = new String[INITIAL_CAPACITY];
+        private int[] counts = new int[INITIAL_CAPACITY];
+        private int depth;
+
+        private StructureMatcher(List<JsonValue> candidates) {
+            final int size = candidates.size();
+            this.stacks = new JsonValue[size][];
+            for (int i = 0; i < size; i++) {
+                JsonValue[] stack = new JsonValue[INITIAL_CAPACITY];
+                stack[0] = candidates.get(i);
+                this.stacks[i] = stack;
+            }
+            this.alive = size;
+        }
+
+        /**
+         * Appends a new parser event. The first event must be the one which started
+         * the array or object.
+         *
+         * @param event  the event to append.
+         * @param parser the JSON parser.
+         * @return {@code true} if this matcher should be continued, or
+         *         {@code false} if the value is completed.
+         */
+        boolean append(Event event, JsonParser parser) {
+            switch (event) {
+            case START_ARRAY:
+            case START_OBJECT:
+                if (depth > 0 && alive > 0) {
+                    matchContainer(event == Event.START_ARRAY ? ValueType.ARRAY : ValueType.OBJECT);
+                }
+                push();
+                return true;
+            case END_ARRAY:
+            case END_OBJECT:
+                --depth;
+                if (alive > 0) {
+                    matchSize();
+                }
+                return depth > 0;
+            case KEY_NAME:
+                keys[depth - 1] = parser.getString();
+                return true;
+            default:
+                if (alive > 0) {
+                    matchScalar(event, parser);
+                }
+                counts[depth - 1]++;
+                return true;
+            }
+        }
+
+        /**
+         * Checks if the whole value matched one of the candidates.
+         *
+         * @return {@code true} if the value matched.
+         */
+        boolean isMatched() {
+            return alive > 0;
+        }
+
+        /**
+         * Checks if all the candidates were dropped.
+         *
+         * @return {@code true} if the value cannot match any candidate.
+         */
+        boolean isFailed() {
+            return alive == 0;
+        }
+
+        private void push() {
+            if (depth > 0) {
+                counts[depth - 1]++;
+            }
+            if (depth == counts.length) {
+                final int newCapacity = depth * 2;
+                keys = Arrays.copyOf(keys, newCapacity);
+                counts = Arrays.copyOf(counts, newCapacity);
+            }
+            keys[depth] = null;
+            counts[depth] = 0;
+            depth++;
+        }
+
+        private void matchContainer(ValueType type) {
+            for (int i = 0; i < stacks.length; i++) {
+                JsonValue[] stack = stacks[i];
+                if (stack == null) {
+                    continue;
+                }
+                JsonValue child = findChild(stack[depth - 1]);
+                if (child == null || child.getValueType() != type) {
+                    drop(i);
+                    continue;
+                }
+                if (depth == stack.length) {
+                    stack = Arrays.copyOf(stack, depth * 2);
+                    stacks[i] = stack;
+                }
+                stack[depth] = child;
+            }
+        }
+
+        private void matchScalar(Event event, JsonParser parser) {
+            String string = null;
+            BigDecimal number = null;
+            if (event == Event.VALUE_STRING) {
+                string = parser.getString();
+            } else if (event == Event.VALUE_NUMBER) {
+                number = parser.getBigDecimal();
+            }
+            for (int i = 0; i < stacks.length; i++) {
+                JsonValue[] stack = stacks[i];
+                if (stack == null) {
+                    continue;
+                }
+                JsonValue child = findChild(stack[depth - 1]);
+                if (child == null || !matchesScalar(child, event, string, number)) {
+                    drop(i);
+                }
+            }
+        }
+
+        private void matchSize() {
+            for (int i = 0; i < stacks.length; i++) {
+                JsonValue[] stack = stacks[i];
+                if (stack == null) {
+                    continue;
+                }
+                JsonValue node = stack[depth];
+                int size = (node.getValueType() == ValueType.ARRAY)
+                        ? node.asJsonArray().size()
+                        : node.asJsonObject().size();
+                if (size != counts[depth]) {
+                    drop(i);
+                }
+            }
+        }
+
+        private JsonValue findChild(JsonValue parent) {
+            final int top = depth - 1;
+            if (parent.getValueType() == ValueType.ARRAY) {
+                JsonArray array = parent.asJsonArray();
+                int index = counts[top];
+                return (index < array.size()) ? array.get(index) : null;
+            } else {
+                return parent.asJsonObject().get(keys[top]);
+            }
+        }
+
+        private void drop(int index) {
+            stacks[index] = null;
+            alive--;
+        }
+
+        private static boolean matchesScalar(JsonValue expected, Event event, String string, BigDecimal number) {
+            switch (event) {
+            case VALUE_STRING:
+                return expected.getValueType() == ValueType.STRING
+                        && ((JsonString) expected).getString().equals(string);
+            case VALUE_NUMBER:
+                return expected.getValueType() == ValueType.NUMBER
+                        && ((JsonNumber) expected).bigDecimalValue().compareTo(number) == 0;
+            case VALUE_TRUE:
+                return expected.getValueType() == ValueType.TRUE;
+            case VALUE_FALSE:
+                return expected.getValueType() == ValueType.FALSE;
+            case VALUE_NULL:
+                return expected.getValueType() == ValueType.NULL;
+            default:
+                return false;
+            }
+        }
+    }
+}
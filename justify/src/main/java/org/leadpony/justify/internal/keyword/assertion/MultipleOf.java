@@ -24,6 +24,7 @@ import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.annotation.KeywordType;
 import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.base.Message;
+import org.leadpony.justify.internal.base.json.NumericValue;
 import org.leadpony.justify.internal.keyword.KeywordMapper;
 import org.leadpony.justify.internal.problem.ProblemBuilder;
 
@@ -39,6 +40,7 @@ import org.leadpony.justify.internal.problem.ProblemBuilder;
 public class MultipleOf extends AbstractNumericAssertion {
 
     private final BigDecimal factor;
+    private final NumericValue factorValue;
 
     /**
      * Returns the mapper which maps a JSON value to this keyword.
@@ -53,12 +55,12 @@ public class MultipleOf extends AbstractNumericAssertion {
     public MultipleOf(JsonValue json, BigDecimal factor) {
         super(json);
         this.factor = factor;
+        this.factorValue = new NumericValue(factor);
     }
 
     @Override
-    protected boolean testValue(BigDecimal value) {
-        BigDecimal remainder = value.remainder(factor);
-        return remainder.compareTo(BigDecimal.ZERO) == 0;
+    protected boolean testValue(NumericValue value) {
+        return value.isMultipleOf(factorValue);
     }
 
     @Override
@@ -16,6 +16,7 @@
 
 package org.leadpony.justify.internal.keyword.assertion;
 
+import java.util.function.Predicate;
 import java.util.regex.PatternSyntaxException;
 
 import javax.json.JsonString;
@@ -25,6 +26,7 @@ import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.annotation.KeywordType;
 import org.leadpony.justify.internal.annotation.Spec;
+import org.leadpony.justify.internal.base.DirectMappedCache;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.base.regex.Ecma262Pattern;
 import org.leadpony.justify.internal.keyword.KeywordMapper;
@@ -41,7 +43,14 @@ import org.leadpony.justify.internal.problem.ProblemBuilder;
 @Spec(SpecVersion.DRAFT_07)
 public class Pattern extends AbstractStringAssertion {
 
+    /*
+     * Strings longer than this are never cached,
+     * which bounds the memory retained by the cache.
+     */
+    private static final int MAX_CACHED_LENGTH = 256;
+
     private final java.util.regex.Pattern pattern;
+    private final Predicate<String> predicate;
 
     /**
      * Returns the mapper which maps a JSON value to this keyword.
@@ -53,7 +62,8 @@ public class Pattern extends AbstractStringAssertion {
             if (value.getValueType() == ValueType.STRING) {
                 String string = ((JsonString) value).getString();
                 try {
-                    return new Pattern(value, Ecma262Pattern.compile(string));
+                    return new Pattern(value, Ecma262Pattern.compile(string),
+                            context.getPatternCacheSize());
                 } catch (PatternSyntaxException e) {
                     throw new IllegalArgumentException(e);
                 }
@@ -63,13 +73,26 @@ public class Pattern extends AbstractStringAssertion {
     }
 
     public Pattern(JsonValue json, java.util.regex.Pattern pattern) {
+        this(json, pattern, 0);
+    }
+
+    /**
+     * Constructs this keyword.
+     *
+     * @param json      the original JSON value of this keyword.
+     * @param pattern   the compiled pattern.
+     * @param cacheSize the maximum number of results to cache, zero disables the
+     *                  cache.
+     */
+    public Pattern(JsonValue json, java.util.regex.Pattern pattern, int cacheSize) {
         super(json);
         this.pattern = pattern;
+        this.predicate = createPredicate(pattern, cacheSize);
     }
 
     @Override
     protected boolean testValue(String value) {
-        return pattern.matcher(value).find();
+        return predicate.test(value);
     }
 
     @Override
@@ -85,4 +108,43 @@ public class Pattern extends AbstractStringAssertion {
             .withParameter("pattern", pattern.toString())
             .build();
     }
+
+    private static Predicate<String> createPredicate(java.util.regex.Pattern pattern, int cacheSize) {
+        Predicate<String> predicate = Ecma262Pattern.toLiteralPredicate(pattern);
+        if (predicate != null) {
+            return predicate;
+        } else if (cacheSize > 0) {
+            return new CachingPredicate(pattern, cacheSize);
+        }
+        return value -> pattern.matcher(value).find();
+    }
+
+    /**
+     * A predicate caching the results of the regular expression.
+     *
+     * @author leadpony
+     */
+    private static final class CachingPredicate implements Predicate<String> {
+
+        private final java.util.regex.Pattern pattern;
+        private final DirectMappedCache<String, Boolean> cache;
+
+        CachingPredicate(java.util.regex.Pattern pattern, int cacheSize) {
+            this.pattern = pattern;
+            this.cache = new DirectMappedCache<>(cacheSize);
+        }
+
+        @Override
+        public boolean test(String value) {
+            if (value.length() > MAX_CACHED_LENGTH) {
+                return pattern.matcher(value).find();
+            }
+            Boolean result = cache.get(value);
+            if (result == null) {
+                result = pattern.matcher(value).find();
+                cache.put(value, result);
+            }
+            return result;
+        }
+    }
 }
@@ -32,10 +32,12 @@ import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.annotation.KeywordType;
 import org.leadpony.justify.internal.annotation.Spec;
+import org.leadpony.justify.internal.base.CompactBitSet;
 import org.leadpony.justify.internal.base.Message;
 import org.leadpony.justify.internal.evaluator.ShallowEvaluator;
 import org.leadpony.justify.internal.keyword.KeywordMapper;
 import org.leadpony.justify.internal.keyword.ObjectKeyword;
+import org.leadpony.justify.internal.keyword.PropertyDispatchTable;
 
 /**
  * Assertion specified with "required" validation keyword.
@@ -46,9 +48,14 @@ import org.leadpony.justify.internal.keyword.ObjectKeyword;
 @Spec(SpecVersion.DRAFT_04)
 @Spec(SpecVersion.DRAFT_06)
 @Spec(SpecVersion.DRAFT_07)
-public class Required extends AbstractAssertion implements ObjectKeyword {
+public class Required extends AbstractAssertion
+        implements ObjectKeyword, PropertyDispatchTable.Participant {
 
     private final Set<String> names;
+    // The slots of the names in the dispatch table, in the order of the names.
+    private final int[] slots;
+    private final CompactBitSet requiredSlots = new CompactBitSet();
+    private PropertyDispatchTable dispatchTable;
 
     /**
      * Returns the mapper which maps a JSON value to this keyword.
@@ -75,6 +82,22 @@ public class Required extends AbstractAssertion implements ObjectKeyword {
     public Required(JsonValue json, Set<String> names) {
         super(json);
         this.names = new LinkedHashSet<>(names);
+        this.slots = new int[names.size()];
+    }
+
+    @Override
+    public void declareProperties(PropertyDispatchTable.Builder builder) {
+        int i = 0;
+        for (String name : names) {
+            int slot = builder.track(name);
+            slots[i++] = slot;
+            requiredSlots.set(slot);
+        }
+    }
+
+    @Override
+    public void useDispatchTable(PropertyDispatchTable table) {
+        this.dispatchTable = table;
     }
 
     @Override
@@ -82,7 +105,7 @@ public class Required extends AbstractAssertion implements ObjectKeyword {
         if (names.isEmpty()) {
             return Evaluator.ALWAYS_TRUE;
         } else {
-            return new AssertionEvaluator(context, names);
+            return new AssertionEvaluator(context);
         }
     }
 
@@ -91,48 +114,84 @@ public class Required extends AbstractAssertion implements ObjectKeyword {
         if (names.isEmpty()) {
             return createAlwaysFalseEvaluator(context);
         } else {
-            return new NegatedAssertionEvaluator(context, names);
+            return new NegatedAssertionEvaluator(context);
         }
     }
 
     /**
-     * An evaluator of this keyword.
+     * A skeletal evaluator tracking the required properties found in the object.
      *
      * @author leadpony
      */
-    private final class AssertionEvaluator extends ShallowEvaluator {
+    private abstract class AbstractRequiredEvaluator extends ShallowEvaluator {
+
+        private final CompactBitSet found = new CompactBitSet();
+        private int remaining;
+
+        protected AbstractRequiredEvaluator(EvaluatorContext context) {
+            super(context);
+            this.remaining = slots.length;
+        }
+
+        /**
+         * Marks the current key as found.
+         *
+         * @return {@code true} if all the required properties are found.
+         */
+        protected boolean markKeyFound() {
+            int slot = dispatchTable.lookup(getContext().getStringValue()).getSlot();
+            if (slot >= 0 && requiredSlots.get(slot) && found.set(slot)) {
+                --remaining;
+            }
+            return remaining == 0;
+        }
+
+        protected boolean isMissing() {
+            return remaining > 0;
+        }
+
+        protected boolean isFound(int slot) {
+            return found.get(slot);
+        }
+    }
 
-        private final Set<String> missing;
+    /**
+     * An evaluator of this keyword.
+     *
+     * @author leadpony
+     */
+    private final class AssertionEvaluator extends AbstractRequiredEvaluator {
 
-        private AssertionEvaluator(EvaluatorContext context, Set<String> required) {
+        private AssertionEvaluator(EvaluatorContext context) {
             super(context);
-            this.missing = new LinkedHashSet<>(required);
         }
 
         @Override
         public Result evaluateShallow(Event event, int depth, ProblemDispatcher dispatcher) {
             if (event == Event.KEY_NAME) {
-                missing.remove(getParser().getString());
-                if (missing.isEmpty()) {
+                if (markKeyFound()) {
                     return Result.TRUE;
                 }
             } else if (depth == 0 && event == Event.END_OBJECT) {
-                if (missing.isEmpty()) {
-                    return Result.TRUE;
-                } else {
+                if (isMissing()) {
                     return dispatchProblems(dispatcher);
+                } else {
+                    return Result.TRUE;
                 }
             }
             return Result.PENDING;
         }
 
         private Result dispatchProblems(ProblemDispatcher dispatcher) {
-            for (String property : missing) {
-                Problem p = createProblemBuilder(getContext())
-                        .withMessage(Message.INSTANCE_PROBLEM_REQUIRED)
-                        .withParameter("required", property)
-                        .build();
-                dispatcher.dispatchProblem(p);
+            int i = 0;
+            for (String property : names) {
+                if (!isFound(slots[i++])) {
+                    Problem p = createProblemBuilder(getContext())
+                            .withMessage(Message.INSTANCE_PROBLEM_REQUIRED)
+                            .withParameter("required", property)
+                            .build();
+                    dispatcher.dispatchProblem(p);
+                }
             }
             return Result.FALSE;
         }
@@ -143,24 +202,20 @@ public class Required extends AbstractAssertion implements ObjectKeyword {
      *
      * @author leadpony
      */
-    private final class NegatedAssertionEvaluator extends ShallowEvaluator {
-
-        private final Set<String> missing;
+    private final class NegatedAssertionEvaluator extends AbstractRequiredEvaluator {
 
-        private NegatedAssertionEvaluator(EvaluatorContext context, Set<String> names) {
+        private NegatedAssertionEvaluator(EvaluatorContext context) {
             super(context);
-            this.missing = new LinkedHashSet<>(names);
         }
 
         @Override
         public Result evaluateShallow(Event event, int depth, ProblemDispatcher dispatcher) {
             if (event == Event.KEY_NAME) {
-                missing.remove(getParser().getString());
-                if (missing.isEmpty()) {
+                if (markKeyFound()) {
                     return dispatchProblem(dispatcher);
                 }
             } else if (depth == 0 && event == Event.END_OBJECT) {
-                if (missing.isEmpty()) {
+                if (!isMissing()) {
                     return dispatchProblem(dispatcher);
                 } else {
                     return Result.TRUE;
@@ -16,14 +16,12 @@
 
 package org.leadpony.justify.internal.keyword.assertion;
 
-import java.math.BigDecimal;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
 import javax.json.JsonString;
 import javax.json.JsonValue;
 import javax.json.JsonValue.ValueType;
-import javax.json.stream.JsonParser;
 import javax.json.stream.JsonParser.Event;
 
 import org.leadpony.justify.api.EvaluatorContext;
@@ -35,6 +33,8 @@ import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.annotation.KeywordType;
 import org.leadpony.justify.internal.annotation.Spec;
 import org.leadpony.justify.internal.base.Message;
+import org.leadpony.justify.internal.base.json.NumericValue;
+import org.leadpony.justify.internal.keyword.InstanceFilter;
 import org.leadpony.justify.internal.keyword.KeywordMapper;
 
 /**
@@ -45,7 +45,7 @@ import org.leadpony.justify.internal.keyword.KeywordMapper;
 @KeywordType("type")
 @Spec(SpecVersion.DRAFT_06)
 @Spec(SpecVersion.DRAFT_07)
-public abstract class Type extends AbstractAssertion {
+public abstract class Type extends AbstractAssertion implements InstanceFilter {
 
     /**
      * Returns the mapper which maps a JSON value to this keyword.
@@ -101,16 +101,10 @@ public abstract class Type extends AbstractAssertion {
         if (type != InstanceType.NUMBER) {
             return type;
         }
-        JsonParser parser = context.getParser();
-        if (parser.isIntegralNumber()) {
+        if (context.getParser().isIntegralNumber() || NumericValue.of(context).strippedScale() == 0) {
             return InstanceType.INTEGER;
-        } else {
-            BigDecimal value = parser.getBigDecimal().stripTrailingZeros();
-            if (value.scale() == 0) {
-                return InstanceType.INTEGER;
-            }
-            return type;
         }
+        return type;
     }
 
     static InstanceType toInstanceType(JsonString value) {
@@ -156,6 +150,11 @@ public abstract class Type extends AbstractAssertion {
             };
         }
 
+        @Override
+        public boolean mayAccept(EvaluatorContext context, InstanceType type) {
+            return testType(toNarrowType(type, context));
+        }
+
         @Override
         protected Evaluator doCreateNegatedEvaluator(EvaluatorContext context, InstanceType type) {
             InstanceType narrowerType = toNarrowType(type, context);
@@ -220,6 +219,11 @@ public abstract class Type extends AbstractAssertion {
             };
         }
 
+        @Override
+        public boolean mayAccept(EvaluatorContext context, InstanceType type) {
+            return testType(toNarrowType(type, context));
+        }
+
         @Override
         protected Evaluator doCreateNegatedEvaluator(EvaluatorContext context, InstanceType type) {
             InstanceType narrowerType = toNarrowType(type, context);
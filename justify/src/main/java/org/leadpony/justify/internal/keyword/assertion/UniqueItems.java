@@ -16,10 +16,8 @@
 
 package org.leadpony.justify.internal.keyword.assertion;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.math.BigDecimal;
 
-import javax.json.JsonBuilderFactory;
 import javax.json.JsonValue;
 import javax.json.stream.JsonParser.Event;
 
@@ -31,8 +29,11 @@ import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.annotation.KeywordType;
 import org.leadpony.justify.internal.annotation.Spec;
+import org.leadpony.justify.internal.base.LongIndexMap;
 import org.leadpony.justify.internal.base.Message;
-import org.leadpony.justify.internal.base.json.JsonInstanceBuilder;
+import org.leadpony.justify.internal.base.ObjectIndexMap;
+import org.leadpony.justify.internal.base.json.JsonInstanceHasher;
+import org.leadpony.justify.internal.base.json.JsonInstanceHasher.Digest;
 import org.leadpony.justify.internal.evaluator.AbstractEvaluator;
 import org.leadpony.justify.internal.keyword.ArrayKeyword;
 import org.leadpony.justify.internal.keyword.KeywordMapper;
@@ -82,20 +83,40 @@ public class UniqueItems extends AbstractAssertion implements ArrayKeyword {
     /**
      * An evaluator which evaluates the uniqueItems assertion.
      *
+     * <p>
+     * The items are never built as JSON values. Strings and numbers are kept in
+     * primitive hash maps by kind, which never boxes integral numbers. Arrays and
+     * objects are compared by their digests computed from the parser events.
+     * The digests are keyed with seeds chosen at random for each evaluator, so
+     * the items having the same digest can be regarded as equal.
+     * </p>
+     *
      * @author leadpony
      */
     private class AssertionEvaluator extends AbstractEvaluator {
 
-        private final JsonBuilderFactory builderFactory;
-        private final Map<JsonValue, Integer> values = new HashMap<>();
+        /*
+         * Numbers with a value of -10^18 < n < 10^18 are stored as long values.
+         */
+        private static final int MAX_LONG_PRECISION = 18;
+
+        private LongIndexMap integers;
+        private ObjectIndexMap<BigDecimal> decimals;
+        private ObjectIndexMap<String> strings;
+        private ObjectIndexMap<Digest> digests;
+        private int firstTrue = -1;
+        private int firstFalse = -1;
+        private int firstNull = -1;
+
+        private JsonInstanceHasher hasher;
+        private boolean hashing;
+
         private boolean duplicated;
         private int firstOccurrenceAt, secondOccurrenceAt;
         private int index;
-        private JsonInstanceBuilder builder;
 
         protected AssertionEvaluator(EvaluatorContext context) {
             super(context);
-            this.builderFactory = context.getJsonBuilderFactory();
         }
 
         @Override
@@ -110,26 +131,83 @@ public class UniqueItems extends AbstractAssertion implements ArrayKeyword {
             if (hasDuplicatedItems()) {
                 return Result.PENDING;
             }
-            if (builder == null) {
-                builder = new JsonInstanceBuilder(builderFactory);
+            if (hashing || event == Event.START_ARRAY || event == Event.START_OBJECT) {
+                testContainerItem(event);
+            } else {
+                testScalarItem(event);
             }
-            if (builder.append(event, getParser())) {
-                return Result.PENDING;
+            return Result.PENDING;
+        }
+
+        private void testContainerItem(Event event) {
+            if (hasher == null) {
+                hasher = new JsonInstanceHasher();
+                digests = new ObjectIndexMap<>();
+            }
+            hashing = hasher.append(event, getParser());
+            if (!hashing) {
+                testFirstIndex(digests.putIfAbsent(hasher.digest(), index));
+                index++;
+            }
+        }
+
+        private void testScalarItem(Event event) {
+            switch (event) {
+            case VALUE_STRING:
+                if (strings == null) {
+                    strings = new ObjectIndexMap<>();
+                }
+                testFirstIndex(strings.putIfAbsent(getContext().getStringValue(), index));
+                break;
+            case VALUE_NUMBER:
+                testNumberItem(getContext().getDecimalValue());
+                break;
+            case VALUE_TRUE:
+                firstTrue = testLiteralItem(firstTrue);
+                break;
+            case VALUE_FALSE:
+                firstFalse = testLiteralItem(firstFalse);
+                break;
+            case VALUE_NULL:
+                firstNull = testLiteralItem(firstNull);
+                break;
+            default:
+                break;
+            }
+            index++;
+        }
+
+        private void testNumberItem(BigDecimal value) {
+            // Integers of scale zero need no stripping unless they are too large.
+            if (value.scale() != 0 || value.precision() > MAX_LONG_PRECISION) {
+                value = value.stripTrailingZeros();
+            }
+            if (value.scale() <= 0 && value.precision() - value.scale() <= MAX_LONG_PRECISION) {
+                if (integers == null) {
+                    integers = new LongIndexMap();
+                }
+                testFirstIndex(integers.putIfAbsent(value.longValue(), index));
             } else {
-                JsonValue value = builder.build();
-                builder = null;
-                testItemValue(value, index++);
-                return Result.PENDING;
+                if (decimals == null) {
+                    decimals = new ObjectIndexMap<>();
+                }
+                testFirstIndex(decimals.putIfAbsent(value, index));
+            }
+        }
+
+        private int testLiteralItem(int firstIndex) {
+            if (firstIndex < 0) {
+                return index;
             }
+            testFirstIndex(firstIndex);
+            return firstIndex;
         }
 
-        private void testItemValue(JsonValue value, int index) {
-            if (values.containsKey(value)) {
+        private void testFirstIndex(int firstIndex) {
+            if (firstIndex >= 0) {
                 duplicated = true;
-                firstOccurrenceAt = values.get(value);
+                firstOccurrenceAt = firstIndex;
                 secondOccurrenceAt = index;
-            } else {
-                values.put(value, index);
             }
         }
 
@@ -92,7 +92,7 @@ public class ContentEncoding extends AbstractAssertion {
 
     @Override
     protected Evaluator doCreateEvaluator(EvaluatorContext context, InstanceType type) {
-        if (test(context.getParser().getString())) {
+        if (test(context.getStringValue())) {
             return Evaluator.ALWAYS_TRUE;
         }
         return new Evaluator() {
@@ -107,7 +107,7 @@ public class ContentEncoding extends AbstractAssertion {
 
     @Override
     protected Evaluator doCreateNegatedEvaluator(EvaluatorContext context, InstanceType type) {
-        if (!test(context.getParser().getString())) {
+        if (!test(context.getStringValue())) {
             return Evaluator.ALWAYS_TRUE;
         }
         return new Evaluator() {
@@ -106,7 +106,7 @@ public class ContentMediaType extends AbstractAssertion {
 
     @Override
     protected Evaluator doCreateEvaluator(EvaluatorContext context, InstanceType type) {
-        String value = context.getParser().getString();
+        String value = context.getStringValue();
         if (testValue(value, true)) {
             return Evaluator.ALWAYS_TRUE;
         }
@@ -122,7 +122,7 @@ public class ContentMediaType extends AbstractAssertion {
 
     @Override
     protected Evaluator doCreateNegatedEvaluator(EvaluatorContext context, InstanceType type) {
-        String value = context.getParser().getString();
+        String value = context.getStringValue();
         if (!testValue(value, false)) {
             return Evaluator.ALWAYS_TRUE;
         }
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword.assertion.format;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.Localizable;
+import org.leadpony.justify.internal.base.DirectMappedCache;
+import org.leadpony.justify.spi.FormatAttribute;
+
+/**
+ * A format attribute which caches the results of another format attribute.
+ *
+ * <p>
+ * The cache is bounded and can be shared by multiple threads without locking.
+ * The numbers of the hits and misses are counted for each instance.
+ * </p>
+ *
+ * @author leadpony
+ */
+final class CachingFormatAttribute implements FormatAttribute {
+
+    /*
+     * Strings longer than this are never cached,
+     * which bounds the memory retained by the cache.
+     */
+    private static final int MAX_CACHED_LENGTH = 256;
+
+    private final FormatAttribute attribute;
+    private final DirectMappedCache<String, Boolean> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Wraps the format attribute with a cache if requested.
+     *
+     * @param attribute the format attribute to wrap.
+     * @param cacheSize the maximum number of results to cache, zero disables the
+     *                  cache.
+     * @return the format attribute with the cache, or the original attribute.
+     */
+    static FormatAttribute of(FormatAttribute attribute, int cacheSize) {
+        if (cacheSize > 0 && attribute.valueType() == InstanceType.STRING) {
+            return new CachingFormatAttribute(attribute, cacheSize);
+        }
+        return attribute;
+    }
+
+    private CachingFormatAttribute(FormatAttribute attribute, int cacheSize) {
+        this.attribute = attribute;
+        this.cache = new DirectMappedCache<>(cacheSize);
+    }
+
+    @Override
+    public String name() {
+        return attribute.name();
+    }
+
+    @Override
+    public Localizable localizedName() {
+        return attribute.localizedName();
+    }
+
+    @Override
+    public InstanceType valueType() {
+        return attribute.valueType();
+    }
+
+    @Override
+    public boolean test(JsonValue value) {
+        String string = ((JsonString) value).getString();
+        if (string.length() > MAX_CACHED_LENGTH) {
+            misses.increment();
+            return attribute.test(value);
+        }
+        Boolean result = cache.get(string);
+        if (result != null) {
+            hits.increment();
+            return result;
+        }
+        misses.increment();
+        result = attribute.test(value);
+        cache.put(string, result);
+        return result;
+    }
+
+    /**
+     * Returns the number of the results found in the cache.
+     *
+     * @return the number of the cache hits.
+     */
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of the results not found in the cache, including the
+     * values too long to be cached.
+     *
+     * @return the number of the cache misses.
+     */
+    long getMissCount() {
+        return misses.sum();
+    }
+}
@@ -16,9 +16,6 @@
 
 package org.leadpony.justify.internal.keyword.assertion.format;
 
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-
 import org.leadpony.justify.api.Localizable;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.annotation.Spec;
@@ -32,8 +29,6 @@ import org.leadpony.justify.internal.base.Message;
 @Spec(SpecVersion.DRAFT_07)
 class Date extends AbstractFormatAttribute {
 
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
-
     @Override
     public String name() {
         return "date";
@@ -46,11 +41,6 @@ class Date extends AbstractFormatAttribute {
 
     @Override
     public boolean test(String value) {
-        try {
-            FORMATTER.parse(value);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
-        }
+        return Rfc3339.isFullDate(value);
     }
 }
@@ -31,9 +31,6 @@ import org.leadpony.justify.internal.base.Message;
 @Spec(SpecVersion.DRAFT_07)
 class DateTime extends AbstractFormatAttribute {
 
-    private final Date date = new Date();
-    private final Time time = new Time();
-
     @Override
     public String name() {
         return "date-time";
@@ -46,10 +43,6 @@ class DateTime extends AbstractFormatAttribute {
 
     @Override
     public boolean test(String value) {
-        String[] parts = value.split("T|t", 3);
-        if (parts.length != 2) {
-            return false;
-        }
-        return date.test(parts[0]) && time.test(parts[1]);
+        return Rfc3339.isDateTime(value);
     }
 }
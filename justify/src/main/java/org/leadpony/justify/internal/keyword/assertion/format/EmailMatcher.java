@@ -18,8 +18,6 @@ package org.leadpony.justify.internal.keyword.assertion.format;
 
 import static org.leadpony.justify.internal.base.AsciiCode.isAlphanumeric;
 
-import java.util.BitSet;
-
 /**
  * Matcher for email addresses.
  *
@@ -30,14 +28,14 @@ class EmailMatcher extends FormatMatcher {
     static final int MAX_LOCAL_PART_CHARS = 64;
     static final String ATOM_TEXT_CHARS = "!#$%&'*+-/=?^_`{|}~";
 
-    @SuppressWarnings("serial")
-    static final BitSet ATOM_TEXT_CHARSET = new BitSet(128) {
-        {
-            for (int i = 0; i < ATOM_TEXT_CHARS.length(); i++) {
-                set(ATOM_TEXT_CHARS.charAt(i));
-            }
+    // The letters allowed in atext, looked up by ASCII codes.
+    private static final boolean[] ATOM_TEXT_LETTERS = new boolean[128];
+
+    static {
+        for (int c = 0; c < ATOM_TEXT_LETTERS.length; c++) {
+            ATOM_TEXT_LETTERS[c] = isAlphanumeric(c) || ATOM_TEXT_CHARS.indexOf(c) >= 0;
         }
-    };
+    }
 
     EmailMatcher(CharSequence input) {
         super(input);
@@ -45,104 +43,133 @@ class EmailMatcher extends FormatMatcher {
 
     @Override
     public boolean all() {
-        localPart();
+        if (!localPart()) {
+            return false;
+        }
         if (next() == '@') {
-            domainPart();
-            return true;
+            return domainPart();
         } else {
             return false;
         }
     }
 
-    private void localPart() {
+    private boolean localPart() {
         final int start = pos();
-        zeroOrMoreComments();
+        if (!zeroOrMoreComments()) {
+            return false;
+        }
         if (peek() == '\"') {
-            quotedString();
-        } else {
-            dotAtom();
+            if (!quotedString()) {
+                return false;
+            }
+        } else if (!dotAtom()) {
+            return false;
+        }
+        if (!zeroOrMoreComments()) {
+            return false;
         }
-        zeroOrMoreComments();
         int length = pos() - start;
         if (length > MAX_LOCAL_PART_CHARS) {
-            fail();
+            return fail();
         }
+        return true;
     }
 
-    private void dotAtom() {
-        atomText();
+    private boolean dotAtom() {
+        if (!atomText()) {
+            return false;
+        }
         while (peek() == '.') {
             next();
-            atomText();
+            if (!atomText()) {
+                return false;
+            }
         }
+        return true;
     }
 
-    private void atomText() {
+    private boolean atomText() {
         int length = 0;
         for (;;) {
             int c = peek();
-            if (c == '@' || c == '.' || c == '(' || isWhiteSpace(c) || c == '\r') {
+            if (c == EOF) {
+                return false;
+            } else if (c == '@' || c == '.' || c == '(' || isWhiteSpace(c) || c == '\r') {
                 break;
             }
             next();
             if (checkAtomLetter(c)) {
                 length++;
             } else {
-                fail();
+                return fail();
             }
         }
         if (length == 0) {
-            fail();
+            return fail();
         }
+        return true;
     }
 
-    private void quotedString() {
+    private boolean quotedString() {
         // Skips opening quote.
         int c = next();
         while ((c = next()) != '\"') {
             if (c == '\\') {
                 if (!checkQuotedLetter(next())) {
-                    fail();
+                    return fail();
                 }
             } else if (isWhiteSpace(c) || c == '\r') {
-                foldingWhiteSpace();
+                if (!foldingWhiteSpace()) {
+                    return false;
+                }
             } else if (!checkQuotedLetter(c)) {
-                fail();
+                return fail();
             }
         }
+        return true;
     }
 
-    private void domainPart() {
+    private boolean domainPart() {
         final int start = pos();
-        zeroOrMoreComments();
+        if (!zeroOrMoreComments()) {
+            return false;
+        }
         if (peek() == '[') {
-            domainLiteral();
-        } else {
-            hostname();
+            if (!domainLiteral()) {
+                return false;
+            }
+        } else if (!hostname()) {
+            return false;
+        }
+        if (!zeroOrMoreComments()) {
+            return false;
         }
-        zeroOrMoreComments();
         if (hasNext()) {
-            fail();
+            return fail();
         }
         int length = pos() - start;
         if (length > HostnameMatcher.MAX_DOMAIN_CHARS) {
-            fail();
+            return fail();
         }
+        return true;
     }
 
-    private void domainLiteral() {
+    private boolean domainLiteral() {
         // Skips opening bracket.
         int c = next();
         while ((c = next()) != ']') {
             if (isWhiteSpace(c) || c == '\r') {
-                foldingWhiteSpace();
+                if (!foldingWhiteSpace()) {
+                    return false;
+                }
             } else if (!checkDomainLiteralLetter(c)) {
-                fail();
+                return fail();
             }
         }
+        return true;
     }
 
-    private void hostname() {
+    private boolean hostname() {
         final int start = pos();
         while (hasNext()) {
             int c = peek();
@@ -152,64 +179,78 @@ class EmailMatcher extends FormatMatcher {
                 next();
             }
         }
-        createHostnameMatcher(start, pos()).all();
+        // Only the failure of the hostname matters here.
+        FormatMatcher matcher = createHostnameMatcher(start, pos());
+        matcher.all();
+        if (matcher.hasFailed()) {
+            return fail();
+        }
+        return true;
     }
 
     /**
      * Zero or more comments.
      */
-    private void zeroOrMoreComments() {
-        foldingWhiteSpace();
-        if (hasNext() && peek() == '(') {
-            comment();
-            foldingWhiteSpace();
-            while (hasNext() && peek() == '(') {
-                comment();
-                foldingWhiteSpace();
+    private boolean zeroOrMoreComments() {
+        if (!foldingWhiteSpace()) {
+            return false;
+        }
+        while (hasNext() && peek() == '(') {
+            if (!comment() || !foldingWhiteSpace()) {
+                return false;
             }
         }
+        return true;
     }
 
-    private void comment() {
+    private boolean comment() {
         // Skips opening parenthesis.
         next();
         for (;;) {
             int c = peek();
-            if (c == '(') {
-                comment();
+            if (c == EOF) {
+                return false;
+            } else if (c == '(') {
+                if (!comment()) {
+                    return false;
+                }
             } else if (isWhiteSpace(c) || c == '\r') {
                 // Folding white space appears in the comment.
-                foldingWhiteSpace();
+                if (!foldingWhiteSpace()) {
+                    return false;
+                }
             } else {
                 next();
                 if (c == ')') {
                     break;
                 } else if (c == '\\') {
                     if (!checkQuotedLetter(next())) {
-                        fail();
+                        return fail();
                     }
                 } else if (!checkCommentLetter(c)) {
-                    fail();
+                    return fail();
                 }
             }
         }
+        return true;
     }
 
     /**
      * Folding white space (optional).
      */
-    private void foldingWhiteSpace() {
+    private boolean foldingWhiteSpace() {
         zeroOrMoreWhiteSpaces();
         if (hasNext() && peek() == '\r') {
             if (next() != 'n') {
-                fail();
+                return fail();
             }
             if (isWhiteSpace(next())) {
                 zeroOrMoreWhiteSpaces();
             } else {
-                fail();
+                return fail();
             }
         }
+        return true;
     }
 
     private void zeroOrMoreWhiteSpaces() {
@@ -223,7 +264,7 @@ class EmailMatcher extends FormatMatcher {
     }
 
     protected boolean checkAtomLetter(int c) {
-        return isAlphanumeric(c) || ATOM_TEXT_CHARSET.get(c);
+        return c >= 0 && c < ATOM_TEXT_LETTERS.length && ATOM_TEXT_LETTERS[c];
     }
 
     protected boolean checkDomainLiteralLetter(int c) {
@@ -65,7 +65,7 @@ public class EvaluatableFormat extends Format {
 
     @Override
     protected Evaluator doCreateEvaluator(EvaluatorContext context, InstanceType type) {
-        JsonValue value = context.getParser().getValue();
+        JsonValue value = context.getScalarValue();
         if (test(value)) {
             return Evaluator.ALWAYS_TRUE;
         }
@@ -82,7 +82,7 @@ public class EvaluatableFormat extends Format {
 
     @Override
     protected Evaluator doCreateNegatedEvaluator(EvaluatorContext context, InstanceType type) {
-        JsonValue value = context.getParser().getValue();
+        JsonValue value = context.getScalarValue();
         if (!test(value)) {
             return Evaluator.ALWAYS_TRUE;
         }
@@ -53,6 +53,8 @@ public class Format extends AbstractAssertion {
                 String name = ((JsonString) value).getString();
                 FormatAttribute attribute = context.getFormateAttribute(name);
                 if (attribute != null) {
+                    attribute = CachingFormatAttribute.of(attribute,
+                            context.getFormatCacheSize(name));
                     return new EvaluatableFormat(value, attribute);
                 } else {
                     return new Format(value, name);
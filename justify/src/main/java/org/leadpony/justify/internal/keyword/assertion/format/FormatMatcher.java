@@ -16,18 +16,28 @@
 
 package org.leadpony.justify.internal.keyword.assertion.format;
 
-import java.util.NoSuchElementException;
-
 /**
  * Format matcher.
  *
+ * <p>
+ * A mismatch is signalled by {@link #fail()}, which marks this matcher as
+ * failed and makes it look as if the input was exhausted, so that the rules in
+ * progress return quickly without throwing any exception.
+ * </p>
+ *
  * @author leadpony
  */
 abstract class FormatMatcher {
 
+    /**
+     * The value returned when the input has no more characters.
+     */
+    static final int EOF = -1;
+
     private final CharSequence input;
     private final int length;
     private int index;
+    private boolean failed;
 
     /**
      * Constructs this matcher.
@@ -59,21 +69,27 @@ abstract class FormatMatcher {
      * @return {@code true} if the input matched, {@code false} otherwise.
      */
     boolean matches() {
-        try {
-            return all();
-        } catch (FormatMismatchException | NoSuchElementException e) {
-            return false;
-        }
+        boolean result = all();
+        return result && !failed;
     }
 
     /**
-     * Tests the whole input.
+     * Tests the whole input. The result is ignored if this matcher has failed.
      *
-     * @throws NoSuchElementException if unexpected end of input is detected.
-     * @throws FormatMismatchException if the input did not match the format.
+     * @return {@code true} if the input matched, {@code false} otherwise.
      */
     abstract boolean all();
 
+    /**
+     * Checks if this matcher has failed, including reading beyond the end of
+     * the input.
+     *
+     * @return {@code true} if this matcher has failed.
+     */
+    final boolean hasFailed() {
+        return failed;
+    }
+
     /**
      * Returns the input character sequence.
      *
@@ -109,7 +125,7 @@ abstract class FormatMatcher {
      * @return {@code true} if the input has more characters.
      */
     final boolean hasNext() {
-        return index < length;
+        return index < length && !failed;
     }
 
     /**
@@ -126,32 +142,46 @@ abstract class FormatMatcher {
     /**
      * Returns the next character in the input.
      * Calling this method advances the current position.
+     * Reading beyond the end of the input makes this matcher failed.
      *
-     * @return the code point of the next character.
-     * @throws NoSuchElementException if the input has no more characters.
+     * @return the code point of the next character, or {@link #EOF} if the
+     *         input has no more characters.
      */
     final int next() {
         if (hasNext()) {
+            char c = input.charAt(index);
+            if (!Character.isHighSurrogate(c)) {
+                // The character is a code point by itself.
+                index++;
+                return c;
+            }
             int codePoint = codePointAt(input, index);
             index = offsetByCodePoint(input, index);
             return codePoint;
         } else {
-            throw new NoSuchElementException();
+            fail();
+            return EOF;
         }
     }
 
     /**
      * Peeks the next character in the input.
      * Calling this method never change the current position.
+     * Reading beyond the end of the input makes this matcher failed.
      *
-     * @return the code point of the next character.
-     * @throws NoSuchElementException if the input has no more characters.
+     * @return the code point of the next character, or {@link #EOF} if the
+     *         input has no more characters.
      */
     final int peek() {
         if (hasNext()) {
+            char c = input.charAt(index);
+            if (!Character.isHighSurrogate(c)) {
+                return c;
+            }
             return codePointAt(input, index);
         } else {
-            throw new NoSuchElementException();
+            fail();
+            return EOF;
         }
     }
 
@@ -187,17 +217,19 @@ abstract class FormatMatcher {
     }
 
     /**
-     * Should be called when matching failed.
+     * Should be called when matching failed. The input looks exhausted after
+     * this call.
      *
-     * @returns never return.
-     * @throws FormatMismatchException always thrown.
+     * @return always {@code false}.
      */
-    static boolean fail() {
-        throw new FormatMismatchException();
+    final boolean fail() {
+        this.failed = true;
+        return false;
     }
 
     /**
-     * Returns the code point at the given index of the input.
+     * Returns the code point at the given index of the input. This method is
+     * called only when the character at the index is a high surrogate.
      *
      * @param input the input character sequence.
      * @param index the index to the character in the input.
@@ -211,7 +243,8 @@ abstract class FormatMatcher {
     }
 
     /**
-     * Returns the next index offset by a character.
+     * Returns the next index offset by a character. This method is called only
+     * when the character at the index is a high surrogate.
      *
      * @param input the input character sequence.
      * @param index the index to be offset.
@@ -221,14 +254,4 @@ abstract class FormatMatcher {
     protected int offsetByCodePoint(CharSequence input, int index) {
         return Character.offsetByCodePoints(input, index, 1);
     }
-
-    /**
-     * Exception thrown when matching failed.
-     *
-     * @author leadpony
-     */
-    private static class FormatMismatchException extends RuntimeException {
-
-        private static final long serialVersionUID = 1L;
-    }
 }
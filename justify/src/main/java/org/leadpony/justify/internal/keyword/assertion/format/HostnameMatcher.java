@@ -29,6 +29,15 @@ class HostnameMatcher extends FormatMatcher {
     static final int MAX_LABEL_CHARS = 63;
     static final int MAX_DOMAIN_CHARS = 253;
 
+    // The letters allowed in labels, looked up by ASCII codes.
+    private static final boolean[] LABEL_LETTERS = new boolean[128];
+
+    static {
+        for (int c = 0; c < LABEL_LETTERS.length; c++) {
+            LABEL_LETTERS[c] = isAlphanumeric(c) || c == '-';
+        }
+    }
+
     HostnameMatcher(CharSequence input) {
         super(input);
     }
@@ -40,7 +49,9 @@ class HostnameMatcher extends FormatMatcher {
     @Override
     public boolean all() {
         final int start = pos();
-        subdomain();
+        if (!subdomain()) {
+            return false;
+        }
         int length = pos() - start;
         if (length > MAX_DOMAIN_CHARS) {
             return false;
@@ -48,15 +59,16 @@ class HostnameMatcher extends FormatMatcher {
         return true;
     }
 
-    private void subdomain() {
-        label();
+    private boolean subdomain() {
+        if (!label()) {
+            return false;
+        }
         while (hasNext()) {
-            if (next() == '.') {
-                label();
-            } else {
-                fail();
+            if (next() != '.' || !label()) {
+                return fail();
             }
         }
+        return true;
     }
 
     /**
@@ -66,11 +78,11 @@ class HostnameMatcher extends FormatMatcher {
      * either a letter or a digit.
      * </p>
      */
-    private void label() {
+    private boolean label() {
         final int start = pos();
         int c = next();
         if (!checkFirstLabelLetter(c)) {
-            fail();
+            return fail();
         }
         while (hasNext()) {
             if (peek() == '.') {
@@ -78,16 +90,17 @@ class HostnameMatcher extends FormatMatcher {
             }
             c = next();
             if (!checkLabelLetter(c)) {
-                fail();
+                return fail();
             }
         }
         if (c == '-') {
-            fail();
+            return fail();
         }
         int length = pos() - start;
         if (length == 0 || length > MAX_LABEL_CHARS) {
-            fail();
+            return fail();
         }
+        return true;
     }
 
     protected boolean checkFirstLabelLetter(int c) {
@@ -95,6 +108,6 @@ class HostnameMatcher extends FormatMatcher {
     }
 
     protected boolean checkLabelLetter(int c) {
-        return isAlphanumeric(c) || c == '-';
+        return c >= 0 && c < LABEL_LETTERS.length && LABEL_LETTERS[c];
     }
 }
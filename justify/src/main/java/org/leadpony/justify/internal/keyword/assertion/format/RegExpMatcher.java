@@ -540,7 +540,7 @@ abstract class RegExpMatcher extends FormatMatcher {
                 next();
                 if (classAtom()) {
                     ClassAtom second = this.lastClassAtom;
-                    // This may throw early error.
+                    // This may report early error.
                     return checkClassRange(first, second);
                 }
                 backtrack(mark);
@@ -561,7 +561,7 @@ abstract class RegExpMatcher extends FormatMatcher {
                 next();
                 if (classAtom()) {
                     ClassAtom second = this.lastClassAtom;
-                    // This may throw early error.
+                    // This may report early error.
                     return checkClassRange(first, second);
                 }
             } else if (nonemptyClassRangesNoDash()) {
@@ -736,7 +736,7 @@ abstract class RegExpMatcher extends FormatMatcher {
      * @param second the second decimal digits.
      * @return {@code true} if the test passed.
      */
-    private static boolean checkQuantifierRange(int first, int second) {
+    private boolean checkQuantifierRange(int first, int second) {
         if (first <= second) {
             return true;
         } else {
@@ -744,7 +744,7 @@ abstract class RegExpMatcher extends FormatMatcher {
         }
     }
 
-    private static boolean checkClassRange(ClassAtom lower, ClassAtom upper) {
+    private boolean checkClassRange(ClassAtom lower, ClassAtom upper) {
         if (lower.isCharacterClass() || upper.isCharacterClass()) {
             return earlyError();
         } else if (lower.codePoint() > upper.codePoint()) {
@@ -774,7 +774,7 @@ abstract class RegExpMatcher extends FormatMatcher {
     }
 
     protected static boolean isSyntaxCharacter(int c) {
-        return SYNTAX_CHAR_SET.get(c);
+        return c >= 0 && SYNTAX_CHAR_SET.get(c);
     }
 
     protected static boolean isNonZeroDigit(int c) {
@@ -807,11 +807,11 @@ abstract class RegExpMatcher extends FormatMatcher {
     }
 
     /**
-     * Throws early error defined in the specification.
+     * Reports early error defined in the specification.
      *
      * @return always {@code false}.
      */
-    protected static boolean earlyError() {
+    protected boolean earlyError() {
         return fail();
     }
 
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword.assertion.format;
+
+import org.leadpony.justify.internal.base.AsciiCode;
+
+/**
+ * Scanner of the date and time formats defined in RFC 3339.
+ *
+ * <p>
+ * Each method scans the input only once, without allocating any objects.
+ * </p>
+ *
+ * @author leadpony
+ * @see <a href="https://tools.ietf.org/html/rfc3339#section-5.6">RFC 3339,
+ *      section 5.6</a>
+ */
+final class Rfc3339 {
+
+    private static final int MAX_HOURS = 23;
+    private static final int MAX_MINUTES = 59;
+    // Including leap second.
+    private static final int MAX_SECONDS = 60;
+    private static final int LEAP_SECOND = 60;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    // The last minute of the day in UTC, which can have a leap second.
+    private static final int LAST_MINUTE = MINUTES_PER_DAY - 1;
+
+    private static final int FULL_DATE_LENGTH = 10;
+    private static final int PARTIAL_TIME_LENGTH = 8;
+    private static final int NUM_OFFSET_LENGTH = 6;
+
+    private static final int[] MAX_DAYS_OF_MONTH = {
+            31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31
+    };
+
+    private Rfc3339() {
+    }
+
+    /**
+     * Checks if the input is a "full-date".
+     *
+     * @param input the input to check.
+     * @return {@code true} if the input is a valid date.
+     */
+    static boolean isFullDate(CharSequence input) {
+        return fullDate(input, 0) == input.length();
+    }
+
+    /**
+     * Checks if the input is a "full-time".
+     *
+     * @param input the input to check.
+     * @return {@code true} if the input is a valid time.
+     */
+    static boolean isFullTime(CharSequence input) {
+        return fullTime(input, 0) == input.length();
+    }
+
+    /**
+     * Checks if the input is a "date-time".
+     *
+     * @param input the input to check.
+     * @return {@code true} if the input is a valid date and time.
+     */
+    static boolean isDateTime(CharSequence input) {
+        int index = fullDate(input, 0);
+        if (index < 0 || index >= input.length()) {
+            return false;
+        }
+        char c = input.charAt(index);
+        if (c != 'T' && c != 't') {
+            return false;
+        }
+        return fullTime(input, index + 1) == input.length();
+    }
+
+    /**
+     * Scans "full-date".
+     *
+     * @param input the input to scan.
+     * @param start the index where the date starts.
+     * @return the index after the date, or -1 if the date is invalid.
+     */
+    private static int fullDate(CharSequence input, int start) {
+        if (input.length() - start < FULL_DATE_LENGTH) {
+            return -1;
+        }
+        int year = digits(input, start, 4);
+        if (year < 0 || input.charAt(start + 4) != '-') {
+            return -1;
+        }
+        int month = digits(input, start + 5, 2);
+        if (month < 1 || month > 12 || input.charAt(start + 7) != '-') {
+            return -1;
+        }
+        int day = digits(input, start + 8, 2);
+        if (day < 1 || day > maxDaysOf(year, month)) {
+            return -1;
+        }
+        return start + FULL_DATE_LENGTH;
+    }
+
+    /**
+     * Scans "full-time". A leap second is allowed only at the last minute of
+     * the day in UTC.
+     *
+     * @param input the input to scan.
+     * @param start the index where the time starts.
+     * @return the index after the time, or -1 if the time is invalid.
+     */
+    private static int fullTime(CharSequence input, int start) {
+        final int length = input.length();
+        if (length - start < PARTIAL_TIME_LENGTH) {
+            return -1;
+        }
+        int hours = digits(input, start, 2);
+        if (hours < 0 || hours > MAX_HOURS || input.charAt(start + 2) != ':') {
+            return -1;
+        }
+        int minutes = digits(input, start + 3, 2);
+        if (minutes < 0 || minutes > MAX_MINUTES || input.charAt(start + 5) != ':') {
+            return -1;
+        }
+        int seconds = digits(input, start + 6, 2);
+        if (seconds < 0 || seconds > MAX_SECONDS) {
+            return -1;
+        }
+
+        int index = start + PARTIAL_TIME_LENGTH;
+        if (index < length && input.charAt(index) == '.') {
+            final int fractionStart = ++index;
+            while (index < length && AsciiCode.isDigit(input.charAt(index))) {
+                index++;
+            }
+            if (index == fractionStart) {
+                return -1;
+            }
+        }
+
+        if (index >= length) {
+            return -1;
+        }
+        // The offset in minutes to be added to UTC.
+        int offset;
+        char c = input.charAt(index);
+        if (c == 'Z' || c == 'z') {
+            offset = 0;
+            index++;
+        } else if (c == '+' || c == '-') {
+            if (length - index < NUM_OFFSET_LENGTH) {
+                return -1;
+            }
+            int offsetHours = digits(input, index + 1, 2);
+            if (offsetHours < 0 || offsetHours > MAX_HOURS || input.charAt(index + 3) != ':') {
+                return -1;
+            }
+            int offsetMinutes = digits(input, index + 4, 2);
+            if (offsetMinutes < 0 || offsetMinutes > MAX_MINUTES) {
+                return -1;
+            }
+            offset = offsetHours * 60 + offsetMinutes;
+            if (c == '-') {
+                offset = -offset;
+            }
+            index += NUM_OFFSET_LENGTH;
+        } else {
+            return -1;
+        }
+
+        if (seconds == LEAP_SECOND) {
+            int utc = Math.floorMod(hours * 60 + minutes - offset, MINUTES_PER_DAY);
+            if (utc != LAST_MINUTE) {
+                return -1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the value of the decimal digits.
+     *
+     * @param input the input to scan.
+     * @param start the index of the first digit.
+     * @param count the number of the digits.
+     * @return the value of the digits, or -1 if any of them is not a digit.
+     */
+    private static int digits(CharSequence input, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = input.charAt(i);
+            if (!AsciiCode.isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int maxDaysOf(int year, int month) {
+        if (month == 2 && !isLeapYear(year)) {
+            return 28;
+        }
+        return MAX_DAYS_OF_MONTH[month - 1];
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+    }
+}
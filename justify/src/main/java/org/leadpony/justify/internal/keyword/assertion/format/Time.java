@@ -16,9 +16,6 @@
 
 package org.leadpony.justify.internal.keyword.assertion.format;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 import org.leadpony.justify.api.Localizable;
 import org.leadpony.justify.api.SpecVersion;
 import org.leadpony.justify.internal.annotation.Spec;
@@ -32,14 +29,6 @@ import org.leadpony.justify.internal.base.Message;
 @Spec(SpecVersion.DRAFT_07)
 class Time extends AbstractFormatAttribute {
 
-    private static final Pattern LOCAL_TIME_PATTERN = Pattern.compile("(\\d{2})\\:(\\d{2})\\:(\\d{2})(\\.\\d+)?");
-    private static final Pattern TIME_OFFSET_PATTERN = Pattern.compile("(\\d{2})\\:(\\d{2})");
-
-    private static final int MAX_HOURS = 23;
-    private static final int MAX_MINUTES = 59;
-    // Including leadp second.
-    private static final int MAX_SECONDS = 60;
-
     @Override
     public String name() {
         return "time";
@@ -52,51 +41,6 @@ class Time extends AbstractFormatAttribute {
 
     @Override
     public boolean test(String value) {
-        if (value.endsWith("Z") || value.endsWith("z")) {
-            String part = value.substring(0, value.length() - 1);
-            return testLocalTimePart(part);
-        } else {
-            String[] parts = value.split("\\+|\\-");
-            if (parts.length != 2) {
-                return false;
-            }
-            return testLocalTimePart(parts[0]) && testTimeOffsetPart(parts[1]);
-        }
-    }
-
-    private static boolean testLocalTimePart(String value) {
-        Matcher m = LOCAL_TIME_PATTERN.matcher(value);
-        if (!m.matches()) {
-            return false;
-        }
-        int hours = Integer.parseInt(m.group(1));
-        if (hours > MAX_HOURS) {
-            return false;
-        }
-        int minutes = Integer.parseInt(m.group(2));
-        if (minutes > MAX_MINUTES) {
-            return false;
-        }
-        int seconds = Integer.parseInt(m.group(3));
-        if (seconds > MAX_SECONDS) {
-            return false;
-        }
-        return true;
-    }
-
-    private static boolean testTimeOffsetPart(String value) {
-        Matcher m = TIME_OFFSET_PATTERN.matcher(value);
-        if (!m.matches()) {
-            return false;
-        }
-        int hours = Integer.parseInt(m.group(1));
-        if (hours > MAX_HOURS) {
-            return false;
-        }
-        int minutes = Integer.parseInt(m.group(2));
-        if (minutes > MAX_MINUTES) {
-            return false;
-        }
-        return true;
+        return Rfc3339.isFullTime(value);
     }
 }
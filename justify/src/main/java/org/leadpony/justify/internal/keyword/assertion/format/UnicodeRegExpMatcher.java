@@ -102,7 +102,7 @@ public class UnicodeRegExpMatcher extends RegExpMatcher {
                 next();
                 if (unicodePropertyValueExpression() && hasNext('}')) {
                     next();
-                    // This may throw early error.
+                    // This may report early error.
                     return checkProperty(lastPropertyName, lastPropertyValue);
                 }
             }
@@ -218,7 +218,7 @@ public class UnicodeRegExpMatcher extends RegExpMatcher {
         return true;
     }
 
-    private static boolean checkProperty(String name, String value) {
+    private boolean checkProperty(String name, String value) {
         if (value != null) {
             return checkPropertyNameAndValue(name, value);
         } else {
@@ -226,7 +226,7 @@ public class UnicodeRegExpMatcher extends RegExpMatcher {
         }
     }
 
-    private static boolean checkPropertyNameAndValue(String name, String value) {
+    private boolean checkPropertyNameAndValue(String name, String value) {
         if (NON_BINARY_PROPERTY_SET.containsKey(name)) {
             Set<String> values = NON_BINARY_PROPERTY_SET.get(name);
             if (values.contains(value)) {
@@ -236,7 +236,7 @@ public class UnicodeRegExpMatcher extends RegExpMatcher {
         return earlyError();
     }
 
-    private static boolean checkLoneProperty(String property) {
+    private boolean checkLoneProperty(String property) {
         if (BINARY_PROPERTY_SET.contains(property)
                 || GENERAL_CATEGORY_VALUE_SET.contains(property)) {
             return true;
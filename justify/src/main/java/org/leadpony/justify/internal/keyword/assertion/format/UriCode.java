@@ -16,11 +16,16 @@
 
 package org.leadpony.justify.internal.keyword.assertion.format;
 
-import java.util.BitSet;
-
 import org.leadpony.justify.internal.base.AsciiCode;
 
 /**
+ * Character classes used in URIs.
+ *
+ * <p>
+ * The classes of ASCII characters are looked up in a table, so that each
+ * character is classified with a single array access.
+ * </p>
+ *
  * @author leadpony
  */
 final class UriCode {
@@ -28,35 +33,82 @@ final class UriCode {
     private UriCode() {
     }
 
-    private static final int[] GEN_DELIMS = {':', '/', '?', '#', '[', ']', '@'};
-    private static final int[] SUB_DELIMS = {'!', '$', '&', '\'', '(', ')', '*', '+', ',', ';', '='};
+    private static final String GEN_DELIMS = ":/?#[]@";
+    private static final String SUB_DELIMS = "!$&'()*+,;=";
+
+    private static final int GEN_DELIM = 0x01;
+    private static final int SUB_DELIM = 0x02;
+    private static final int UNRESERVED = 0x04;
+    private static final int HEX_DIGIT = 0x08;
+    // sub-delims, ":" and "@" allowed in pchar.
+    private static final int PCHAR_DELIM = 0x10;
+    // The characters allowed after the first letter of scheme.
+    private static final int SCHEME = 0x20;
 
-    private static final BitSet GEN_DELIMS_SET = new BitSet();
-    private static final BitSet SUB_DELIMS_SET = new BitSet();
-    private static final BitSet RESERVED = new BitSet();
+    private static final byte[] CLASSES = new byte[128];
 
     static {
-        for (int c : GEN_DELIMS) {
-            GEN_DELIMS_SET.set(c);
+        for (int c = 0; c < CLASSES.length; c++) {
+            int classes = 0;
+            if (GEN_DELIMS.indexOf(c) >= 0) {
+                classes |= GEN_DELIM;
+            }
+            if (SUB_DELIMS.indexOf(c) >= 0) {
+                classes |= SUB_DELIM | PCHAR_DELIM;
+            }
+            if (c == ':' || c == '@') {
+                classes |= PCHAR_DELIM;
+            }
+            if (AsciiCode.isAlphanumeric(c)) {
+                classes |= UNRESERVED | SCHEME;
+            } else if (c == '-' || c == '.' || c == '_' || c == '~') {
+                classes |= UNRESERVED;
+            }
+            if (c == '+' || c == '-' || c == '.') {
+                classes |= SCHEME;
+            }
+            if (AsciiCode.isHexDigit(c)) {
+                classes |= HEX_DIGIT;
+            }
+            CLASSES[c] = (byte) classes;
         }
-        for (int c : SUB_DELIMS) {
-            SUB_DELIMS_SET.set(c);
-        }
-        RESERVED.or(GEN_DELIMS_SET);
-        RESERVED.or(SUB_DELIMS_SET);
     }
 
     static boolean isReserved(int c) {
-        return RESERVED.get(c);
+        return is(c, GEN_DELIM | SUB_DELIM);
     }
 
     static boolean isSubDelim(int c) {
-        return SUB_DELIMS_SET.get(c);
+        return is(c, SUB_DELIM);
     }
 
     static boolean isUnreserved(int c) {
-        return AsciiCode.isAlphanumeric(c)
-                || c == '-' || c == '.' || c == '_' || c == '~';
+        return is(c, UNRESERVED);
+    }
+
+    static boolean isHexDigit(int c) {
+        return is(c, HEX_DIGIT);
+    }
+
+    /**
+     * Checks if the character is allowed in pchar other than unreserved
+     * characters and percent-encoded octets.
+     *
+     * @param c the character to check.
+     * @return {@code true} if the character is sub-delims, ":" or "@".
+     */
+    static boolean isPcharDelim(int c) {
+        return is(c, PCHAR_DELIM);
+    }
+
+    /**
+     * Checks if the character is allowed in scheme after the first letter.
+     *
+     * @param c the character to check.
+     * @return {@code true} if the character is allowed in scheme.
+     */
+    static boolean isSchemeLetter(int c) {
+        return is(c, SCHEME);
     }
 
     static boolean isIunreserved(int c) {
@@ -88,4 +140,8 @@ final class UriCode {
                 || (0xF0000 <= c && c <= 0xFFFFD)
                 || (0x100000 <= c && c <= 0x10FFFD);
     }
+
+    private static boolean is(int c, int mask) {
+        return c >= 0 && c < CLASSES.length && (CLASSES[c] & mask) != 0;
+    }
 }
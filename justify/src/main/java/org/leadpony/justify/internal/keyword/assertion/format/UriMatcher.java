@@ -16,8 +16,6 @@
 
 package org.leadpony.justify.internal.keyword.assertion.format;
 
-import java.util.BitSet;
-
 import org.leadpony.justify.internal.base.AsciiCode;
 
 /**
@@ -74,8 +72,7 @@ class UriMatcher extends FormatMatcher {
             if (AsciiCode.isAlphabetic(c)) {
                 while (hasNext() && peek() != ':') {
                     c = next();
-                    if (AsciiCode.isAlphanumeric(c)
-                            || c == '+' || c == '-' || c == '.') {
+                    if (UriCode.isSchemeLetter(c)) {
                         continue;
                     } else {
                         return backtrack(mark);
@@ -150,7 +147,7 @@ class UriMatcher extends FormatMatcher {
                     return true;
                 }
             }
-            fail();
+            return fail();
         }
         return false;
     }
@@ -158,8 +155,8 @@ class UriMatcher extends FormatMatcher {
     boolean ipvFuture() {
         if (hasNext('v') || hasNext('V')) {
             next();
-            if (AsciiCode.isHexDigit(next())) {
-                while (AsciiCode.isHexDigit(peek())) {
+            if (UriCode.isHexDigit(next())) {
+                while (UriCode.isHexDigit(peek())) {
                     next();
                 }
                 if (next() == '.') {
@@ -176,7 +173,7 @@ class UriMatcher extends FormatMatcher {
                     }
                 }
             }
-            fail();
+            return fail();
         }
         return false;
     }
@@ -331,7 +328,7 @@ class UriMatcher extends FormatMatcher {
                 return true;
             }
             int c = peek();
-            if (UriCode.isSubDelim(c) || c == ':' || c == '@') {
+            if (UriCode.isPcharDelim(c)) {
                 next();
                 return true;
             }
@@ -398,8 +395,8 @@ class UriMatcher extends FormatMatcher {
         if (hasNext('%')) {
             // Skips '%'
             next();
-            if (AsciiCode.isHexDigit(next())
-                    && AsciiCode.isHexDigit(next())) {
+            if (UriCode.isHexDigit(next())
+                    && UriCode.isHexDigit(next())) {
                 return true;
             }
             return fail();
@@ -443,7 +440,7 @@ class UriMatcher extends FormatMatcher {
     }
 
     private static CharSequence decodeAllUnreserved(CharSequence input) {
-        StringBuilder b = new StringBuilder();
+        StringBuilder b = null;
         final int length = input.length();
         int startIndex = 0;
         int index = 0;
@@ -453,6 +450,9 @@ class UriMatcher extends FormatMatcher {
                 char low = input.charAt(index + 2);
                 int codePoint = decodePercentEncoded(high, low);
                 if (codePoint >= 0 && UriCode.isUnreserved(codePoint)) {
+                    if (b == null) {
+                        b = new StringBuilder(length);
+                    }
                     b.append(input, startIndex, index).appendCodePoint(codePoint);
                     startIndex = index + 3;
                 }
@@ -477,22 +477,4 @@ class UriMatcher extends FormatMatcher {
         }
         return codePoint;
     }
-
-    private static final int[] GEN_DELIMS = {':', '/', '?', '#', '[', ']', '@'};
-    private static final int[] SUB_DELIMS = {'!', '$', '&', '\'', '(', ')', '*', '+', ',', ';', '='};
-
-    private static final BitSet GEN_DELIMS_SET = new BitSet();
-    private static final BitSet SUB_DELIMS_SET = new BitSet();
-    private static final BitSet RESERVED = new BitSet();
-
-    static {
-        for (int c : GEN_DELIMS) {
-            GEN_DELIMS_SET.set(c);
-        }
-        for (int c : SUB_DELIMS) {
-            SUB_DELIMS_SET.set(c);
-        }
-        RESERVED.or(GEN_DELIMS_SET);
-        RESERVED.or(SUB_DELIMS_SET);
-    }
 }
@@ -38,7 +38,7 @@ class VerboseUriMatcher extends UriMatcher {
     @Override
     boolean all() {
         boolean result = super.all();
-        if (result) {
+        if (result && !hasFailed()) {
             printComponents();
         }
         return result;
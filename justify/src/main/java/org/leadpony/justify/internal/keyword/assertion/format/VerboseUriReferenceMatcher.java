@@ -38,7 +38,7 @@ class VerboseUriReferenceMatcher extends UriReferenceMatcher {
     @Override
     boolean all() {
         boolean result = super.all();
-        if (result) {
+        if (result && !hasFailed()) {
             printComponents();
         }
         return result;
@@ -304,6 +304,28 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
         return createReader(parser);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isValid(InputStream in, JsonSchema schema) {
+        requireNonNull(in, "in");
+        requireNonNull(schema, "schema");
+        JsonParser parser = getJsonParserFactory().createParser(in);
+        return isValid(parser, schema);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isValid(Reader reader, JsonSchema schema) {
+        requireNonNull(reader, "reader");
+        requireNonNull(schema, "schema");
+        JsonParser parser = getJsonParserFactory().createParser(reader);
+        return isValid(parser, schema);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -368,6 +390,12 @@ class DefaultJsonValidationService extends JsonService implements JsonValidation
                 .withHandler(handler);
     }
 
+    private boolean isValid(JsonParser parser, JsonSchema schema) {
+        try (JsonValidator validator = new JsonValidator(parser, schema, getJsonProvider())) {
+            return validator.validateSilently();
+        }
+    }
+
     private JsonReader createReader(JsonParser parser) {
         return new DefaultJsonReader(parser);
     }
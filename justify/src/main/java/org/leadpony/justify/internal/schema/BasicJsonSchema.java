@@ -20,6 +20,7 @@ import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
@@ -32,6 +33,7 @@ import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.internal.evaluator.Evaluators;
 import org.leadpony.justify.internal.evaluator.LogicalEvaluator;
 import org.leadpony.justify.internal.keyword.Evaluatable;
+import org.leadpony.justify.internal.keyword.PropertyDispatchTable;
 import org.leadpony.justify.internal.keyword.SchemaKeyword;
 import org.leadpony.justify.internal.keyword.annotation.Description;
 import org.leadpony.justify.internal.keyword.annotation.Title;
@@ -96,6 +98,7 @@ public abstract class BasicJsonSchema extends AbstractJsonSchema implements Prob
         for (SchemaKeyword keyword : keywords.values()) {
             keyword.addToEvaluatables(evaluatables, keywords);
         }
+        PropertyDispatchTable.bind(evaluatables);
         return evaluatables;
     }
 
@@ -154,10 +157,17 @@ public abstract class BasicJsonSchema extends AbstractJsonSchema implements Prob
 
         private final List<Evaluatable> evaluatables;
 
+        /*
+         * The evaluatables applicable to each instance type. These are computed
+         * once per schema and shared by all validations.
+         */
+        private final Map<InstanceType, Evaluatable[]> plans;
+
         private Many(URI id, JsonObject json, Map<String, SchemaKeyword> keywords,
                 List<Evaluatable> evaluatables) {
             super(id, json, keywords);
             this.evaluatables = evaluatables;
+            this.plans = compilePlans(evaluatables);
         }
 
         @Override
@@ -173,22 +183,61 @@ public abstract class BasicJsonSchema extends AbstractJsonSchema implements Prob
         }
 
         private Evaluator createCombinedEvaluator(EvaluatorContext context, InstanceType type) {
-            LogicalEvaluator evaluator = Evaluators.conjunctive(type);
-            for (Evaluatable evaluatable : this.evaluatables) {
+            Evaluatable[] plan = plans.get(type);
+            if (type.isContainer()) {
+                LogicalEvaluator evaluator = Evaluators.conjunctive(context, type);
+                for (Evaluatable evaluatable : plan) {
+                    evaluator.append(evaluatable.createEvaluator(context, type));
+                }
+                return evaluator;
+            }
+
+            // Scalar values are evaluated at once by all the evaluators,
+            // so the conjunction is needed only when two or more evaluators remain.
+            Evaluator first = null;
+            LogicalEvaluator evaluator = null;
+            for (Evaluatable evaluatable : plan) {
                 Evaluator child = evaluatable.createEvaluator(context, type);
-                evaluator.append(child);
+                if (child == Evaluator.ALWAYS_TRUE) {
+                    continue;
+                }
+                if (first == null) {
+                    first = child;
+                } else {
+                    if (evaluator == null) {
+                        evaluator = Evaluators.conjunctive(context, type);
+                        evaluator.append(first);
+                    }
+                    evaluator.append(child);
+                }
             }
-            return evaluator;
+
+            if (evaluator != null) {
+                return evaluator;
+            }
+            return (first != null) ? first : Evaluator.ALWAYS_TRUE;
         }
 
         private Evaluator createCombinedNegatedEvaluator(EvaluatorContext context, InstanceType type) {
             LogicalEvaluator evaluator = Evaluators.disjunctive(context, type);
             evaluator.withProblemBuilderFactory(this);
+            // Not limited to the plan, because the negations of the keywords
+            // not applicable to the type report the type mismatch.
             for (Evaluatable evaluatable : this.evaluatables) {
                 Evaluator child = evaluatable.createNegatedEvaluator(context, type);
                 evaluator.append(child);
             }
             return evaluator;
         }
+
+        private static Map<InstanceType, Evaluatable[]> compilePlans(List<Evaluatable> evaluatables) {
+            Map<InstanceType, Evaluatable[]> plans = new EnumMap<>(InstanceType.class);
+            for (InstanceType type : InstanceType.values()) {
+                plans.put(type, evaluatables.stream()
+                        .filter(e -> e.supportsType(type))
+                        .toArray(Evaluatable[]::new));
+            }
+            return plans;
+        }
     }
 }
@@ -35,6 +35,7 @@ import org.leadpony.justify.api.Problem;
 import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.internal.base.AbstractEmptyMap;
 import org.leadpony.justify.internal.base.Message;
+import org.leadpony.justify.internal.evaluator.SharedEvaluators;
 import org.leadpony.justify.internal.keyword.SchemaKeyword;
 import org.leadpony.justify.internal.keyword.core.Ref;
 import org.leadpony.justify.internal.problem.ProblemBuilderFactory;
@@ -118,12 +119,12 @@ public class SchemaReference extends AbstractJsonSchema {
 
     @Override
     public Evaluator createEvaluator(EvaluatorContext context, InstanceType type) {
-        return referencedSchema.createEvaluator(context, type);
+        return SharedEvaluators.createEvaluator(referencedSchema, context, type);
     }
 
     @Override
     public Evaluator createNegatedEvaluator(EvaluatorContext context, InstanceType type) {
-        return referencedSchema.createNegatedEvaluator(context, type);
+        return SharedEvaluators.createNegatedEvaluator(referencedSchema, context, type);
     }
 
     /* Resolvable interface */
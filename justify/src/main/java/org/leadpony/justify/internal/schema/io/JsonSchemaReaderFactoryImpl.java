@@ -15,6 +15,7 @@
  */
 package org.leadpony.justify.internal.schema.io;
 
+import static org.leadpony.justify.internal.base.Arguments.requireNonNegative;
 import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
 
 import java.io.IOException;
@@ -321,6 +322,31 @@ public class JsonSchemaReaderFactoryImpl implements JsonSchemaReaderFactory {
             return this;
         }
 
+        @Override
+        public JsonSchemaReaderFactoryBuilder withPatternCacheSize(int size) {
+            requireNonNegative(size, "size");
+            getProperties().put(JsonSchemaReader.PATTERN_CACHE_SIZE, size);
+            return this;
+        }
+
+        @Override
+        public JsonSchemaReaderFactoryBuilder withFormatCacheSize(String attribute, int size) {
+            requireNonNull(attribute, "attribute");
+            requireNonNegative(size, "size");
+            @SuppressWarnings("unchecked")
+            Map<String, Integer> sizes = (Map<String, Integer>) getProperties()
+                    .computeIfAbsent(JsonSchemaReader.FORMAT_CACHE_SIZES, key -> new HashMap<>());
+            sizes.put(attribute, size);
+            return this;
+        }
+
+        @Override
+        public JsonSchemaReaderFactoryBuilder withDiscriminatorBufferSize(int size) {
+            requireNonNegative(size, "size");
+            getProperties().put(JsonSchemaReader.DISCRIMINATOR_BUFFER_SIZE, size);
+            return this;
+        }
+
         private Map<String, Object> getProperties() {
             if (this.properties == null) {
                 this.properties = createDefaultProperties();
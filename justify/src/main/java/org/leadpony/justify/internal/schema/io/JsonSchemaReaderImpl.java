@@ -162,6 +162,26 @@ public class JsonSchemaReaderImpl extends AbstractJsonSchemaReader
         return spec.getMimeType(value);
     }
 
+    @Override
+    public int getPatternCacheSize() {
+        return (Integer) getConfig().getOrDefault(PATTERN_CACHE_SIZE, 0);
+    }
+
+    @Override
+    public int getFormatCacheSize(String name) {
+        @SuppressWarnings("unchecked")
+        Map<String, Integer> sizes = (Map<String, Integer>) getConfig().get(FORMAT_CACHE_SIZES);
+        if (sizes == null) {
+            return 0;
+        }
+        return sizes.getOrDefault(name, 0);
+    }
+
+    @Override
+    public int getDiscriminatorBufferSize() {
+        return (Integer) getConfig().getOrDefault(DISCRIMINATOR_BUFFER_SIZE, DEFAULT_DISCRIMINATOR_BUFFER_SIZE);
+    }
+
     /* */
 
     /**
@@ -18,6 +18,7 @@ package org.leadpony.justify.internal.validator;
 
 import static org.leadpony.justify.internal.base.Arguments.requireNonNull;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -27,13 +28,17 @@ import javax.json.spi.JsonProvider;
 import javax.json.stream.JsonParser;
 
 import org.leadpony.justify.internal.base.json.DefaultPointerAwareJsonParser;
+import org.leadpony.justify.internal.base.json.NumericValue;
 import org.leadpony.justify.internal.base.json.ParserEvents;
+import org.leadpony.justify.internal.evaluator.SharedEvaluators;
 import org.leadpony.justify.internal.problem.DefaultProblemDispatcher;
+import org.leadpony.justify.internal.problem.SilentProblemDispatcher;
 import org.leadpony.justify.api.EvaluatorContext;
 import org.leadpony.justify.api.Evaluator;
 import org.leadpony.justify.api.InstanceType;
 import org.leadpony.justify.api.JsonSchema;
 import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.api.ProblemDispatcher;
 import org.leadpony.justify.api.ProblemHandler;
 import org.leadpony.justify.api.Evaluator.Result;
 
@@ -43,13 +48,24 @@ import org.leadpony.justify.api.Evaluator.Result;
  * @author leadpony
  */
 public class JsonValidator extends DefaultPointerAwareJsonParser
-    implements EvaluatorContext, DefaultProblemDispatcher, ParserEventHandler {
+    implements EvaluatorContext, DefaultProblemDispatcher, ParserEventHandler, NumericValue.Source,
+    SharedEvaluators.Source {
 
     private final JsonSchema rootSchema;
     private ProblemHandler problemHandler;
     private ParserEventHandler eventHandler;
+    private ProblemDispatcher problemDispatcher;
     private Evaluator evaluator;
+    private Result result = Result.PENDING;
     private int depth;
+    private boolean failFast;
+    private boolean silent;
+    // The values at the current event, decoded on demand.
+    private Event valueEvent;
+    private String stringValue;
+    private NumericValue numericValue;
+    private JsonValue scalarValue;
+    private SharedEvaluators sharedEvaluators;
 
     private final List<Problem> currentProblems = new ArrayList<>();
 
@@ -64,6 +80,7 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
         super(realParser, jsonProvider);
         this.rootSchema = rootSchema;
         this.problemHandler = ProblemHandler.throwing();
+        this.problemDispatcher = this;
         this.eventHandler = this::handleFirstEvent;
     }
 
@@ -78,10 +95,64 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
         return this;
     }
 
+    /**
+     * Specifies whether this parser stops the validation at the first problem
+     * found or not.
+     *
+     * @param failFast {@code true} to stop the validation at the first problem.
+     * @return this parser.
+     */
+    public JsonValidator withFailFast(boolean failFast) {
+        this.failFast = failFast;
+        return this;
+    }
+
+    /**
+     * Specifies whether this parser tracks the JSON pointer of the current value
+     * or not.
+     *
+     * @param pointerTracking {@code true} to track the JSON pointer.
+     * @return this parser.
+     */
+    public JsonValidator withPointerTracking(boolean pointerTracking) {
+        setPointerTracking(pointerTracking);
+        return this;
+    }
+
+    /**
+     * Validates the whole JSON instance without reporting any problems. No
+     * problems will be built while validating the instance in this way, and the
+     * validation ends as soon as the instance turns out to be invalid.
+     *
+     * <p>
+     * This method should be called before any events are consumed.
+     * </p>
+     *
+     * @return {@code true} if the instance is valid, {@code false} if it is not.
+     */
+    public boolean validateSilently() {
+        this.silent = true;
+        this.problemDispatcher = SilentProblemDispatcher.SINGLETON;
+        while (hasNext()) {
+            next();
+            if (this.result == Result.FALSE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /* AbstractJsonParser */
 
     @Override
     protected Event process(Event event) {
+        valueEvent = event;
+        stringValue = null;
+        numericValue = null;
+        scalarValue = null;
+        if (sharedEvaluators != null) {
+            sharedEvaluators.clear();
+        }
         eventHandler.handleParserEvent(event, getParser());
         return event;
     }
@@ -100,11 +171,41 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
         return getCurrentParser();
     }
 
+    @Override
+    public String getStringValue() {
+        if (stringValue == null) {
+            stringValue = getParser().getString();
+        }
+        return stringValue;
+    }
+
+    @Override
+    public BigDecimal getDecimalValue() {
+        return getNumericValue().decimalValue();
+    }
+
+    @Override
+    public JsonValue getScalarValue() {
+        if (scalarValue == null) {
+            if (valueEvent == Event.KEY_NAME || valueEvent == Event.VALUE_STRING) {
+                scalarValue = getJsonProvider().createValue(getStringValue());
+            } else {
+                scalarValue = getParser().getValue();
+            }
+        }
+        return scalarValue;
+    }
+
     @Override
     public boolean acceptsDefaultValues() {
         return false;
     }
 
+    @Override
+    public boolean isFailFast() {
+        return failFast;
+    }
+
     @Override
     public void putDefaultProperties(Map<String, JsonValue> defaultValues) {
         assert false;
@@ -115,6 +216,30 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
         assert false;
     }
 
+    /* NumericValue.Source */
+
+    @Override
+    public NumericValue getNumericValue() {
+        if (numericValue == null) {
+            numericValue = new NumericValue(getParser().getBigDecimal());
+        }
+        return numericValue;
+    }
+
+    /* SharedEvaluators.Source */
+
+    @Override
+    public SharedEvaluators getSharedEvaluators() {
+        // Each evaluator may supply its own default values.
+        if (acceptsDefaultValues()) {
+            return null;
+        }
+        if (sharedEvaluators == null) {
+            sharedEvaluators = new SharedEvaluators();
+        }
+        return sharedEvaluators;
+    }
+
     /* DefaultProblemDispatcher */
 
     @Override
@@ -138,18 +263,27 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
 
     @Override
     public void handleParserEvent(Event event, JsonParser parser) {
-        // Updates the JSON pointer.
-        super.process(event);
+        if (!silent) {
+            // Updates the JSON pointer.
+            super.process(event);
+        }
         if (ParserEvents.isEndOfContainer(event)) {
             if (--depth == 0) {
                 this.eventHandler = ParserEventHandler.IDLE;
             }
         }
-        Result result = evaluator.evaluate(event, depth, this);
+        Result result = evaluator.evaluate(event, depth, problemDispatcher);
         if (ParserEvents.isStartOfContainer(event)) {
-            ++depth;
+            if (canSkipSubtree()) {
+                skipSubtree(parser);
+            } else {
+                ++depth;
+            }
         }
         if (result != Result.PENDING) {
+            this.result = result;
+        }
+        if (result != Result.PENDING || (failFast && hasProblems())) {
             evaluator = null;
             this.eventHandler = ParserEventHandler.IDLE;
         }
@@ -158,6 +292,40 @@ public class JsonValidator extends DefaultPointerAwareJsonParser
         }
     }
 
+    /**
+     * Checks if the array or object just started can be skipped. Subtrees are
+     * skipped only when validating silently, because no one else consumes the
+     * parser events then.
+     *
+     * @return {@code true} if the subtree can be skipped.
+     */
+    private boolean canSkipSubtree() {
+        if (!silent) {
+            return false;
+        }
+        return depth > 0 && evaluator.ignoresSubtree(depth);
+    }
+
+    /**
+     * Skips the array or object just started. The events are consumed directly
+     * from the underlying parser, which still reports any ill-formed input.
+     * {@link JsonParser#skipArray()} and {@link JsonParser#skipObject()} are not
+     * used here because some implementations never return on truncated input.
+     *
+     * @param parser the underlying parser.
+     */
+    private static void skipSubtree(JsonParser parser) {
+        int level = 1;
+        while (level > 0) {
+            Event event = parser.next();
+            if (ParserEvents.isStartOfContainer(event)) {
+                ++level;
+            } else if (ParserEvents.isEndOfContainer(event)) {
+                --level;
+            }
+        }
+    }
+
     protected final boolean hasProblems() {
         return !currentProblems.isEmpty();
     }
@@ -129,9 +129,22 @@ public class JsonValidatorFactory extends JsonParserFactoryDecorator {
         return value == Boolean.TRUE;
     }
 
+    private boolean isFailFast() {
+        Object value = properties.get(ValidationConfig.FAIL_FAST);
+        return value == Boolean.TRUE;
+    }
+
+    private boolean tracksPointers() {
+        Object value = properties.get(ValidationConfig.POINTER_TRACKING);
+        return value != Boolean.FALSE;
+    }
+
     private JsonValidator createValiator(JsonParser parser) {
         JsonValidator validator = newValidator(parser);
-        return validator.withHandler(this.handlerFactory.createProblemHandler(validator));
+        return validator
+                .withFailFast(isFailFast())
+                .withPointerTracking(tracksPointers())
+                .withHandler(this.handlerFactory.createProblemHandler(validator));
     }
 
     private JsonValidator newValidator(JsonParser parser) {
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * A test class for {@link CompactBitSet}.
+ *
+ * @author leadpony
+ */
+public class CompactBitSetTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 63, 64, 65, 127, 128, 1000})
+    public void setShouldSetOnlyTheBit(int index) {
+        CompactBitSet bits = new CompactBitSet();
+
+        assertThat(bits.set(index)).isTrue();
+
+        assertThat(bits.get(index)).isTrue();
+        if (index > 0) {
+            assertThat(bits.get(index - 1)).isFalse();
+        }
+        assertThat(bits.get(index + 1)).isFalse();
+        assertThat(bits.get(index + 64)).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 63, 64, 1000})
+    public void setShouldReturnFalseIfAlreadySet(int index) {
+        CompactBitSet bits = new CompactBitSet();
+        bits.set(index);
+
+        assertThat(bits.set(index)).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {64, 200})
+    public void setShouldKeepBitsWhenGrowing(int index) {
+        CompactBitSet bits = new CompactBitSet();
+        bits.set(3);
+        bits.set(index);
+        bits.set(index + 500);
+
+        assertThat(bits.get(3)).isTrue();
+        assertThat(bits.get(index)).isTrue();
+        assertThat(bits.get(index + 500)).isTrue();
+        assertThat(bits.get(index + 1)).isFalse();
+    }
+}
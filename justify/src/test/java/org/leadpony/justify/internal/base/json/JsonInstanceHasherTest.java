@@ -0,0 +1,143 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+
+import javax.json.Json;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.leadpony.justify.internal.base.json.JsonInstanceHasher.Digest;
+
+/**
+ * A test class for {@link JsonInstanceHasher}.
+ *
+ * @author leadpony
+ */
+public class JsonInstanceHasherTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "null|null",
+        "true|true",
+        "42|42",
+        "42|42.0",
+        "4.20|4.2",
+        "0|0.00",
+        "1e2|100",
+        "12345678901234567890123|12345678901234567890123.00",
+        "\"foo\"|\"foo\"",
+        "[]|[]",
+        "[1,\"a\",[true]]|[1.0,\"a\",[true]]",
+        "{}|{}",
+        "{\"a\":1,\"b\":{\"c\":[]}}|{\"b\":{\"c\":[]},\"a\":1.0}",
+    })
+    public void digestShouldBeSameForEqualValues(String first, String second) {
+        JsonInstanceHasher hasher = new JsonInstanceHasher();
+        Digest firstDigest = digestFromEvents(hasher, first);
+        Digest secondDigest = digestFromEvents(hasher, second);
+
+        assertThat(firstDigest).isEqualTo(secondDigest);
+        assertThat(hasher.digest(readValue(first))).isEqualTo(firstDigest);
+        assertThat(hasher.digest(readValue(second))).isEqualTo(secondDigest);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "null|false",
+        "true|false",
+        "42|43",
+        "42|\"42\"",
+        "0.1|1",
+        "5|109951162821.6",
+        "\"Aa\"|\"BB\"",
+        "\"\"|[]",
+        "[]|{}",
+        "[1,2]|[2,1]",
+        "[[1],2]|[1,[2]]",
+        "[1]|[1,1]",
+        "{\"a\":1}|{\"b\":1}",
+        "{\"a\":1,\"b\":2}|{\"a\":2,\"b\":1}",
+        "{\"a\":{}}|{\"a\":[]}",
+    })
+    public void digestShouldBeDifferentForDifferentValues(String first, String second) {
+        JsonInstanceHasher hasher = new JsonInstanceHasher();
+        assertThat(digestFromEvents(hasher, first)).isNotEqualTo(digestFromEvents(hasher, second));
+        assertThat(hasher.digest(readValue(first)))
+            .isNotEqualTo(hasher.digest(readValue(second)));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "null",
+        "42",
+        "\"foo\"",
+        "[1,{\"a\":true}]",
+    })
+    public void digestShouldBeDifferentBetweenHashers(String json) {
+        JsonInstanceHasher first = new JsonInstanceHasher();
+        JsonInstanceHasher second = new JsonInstanceHasher();
+
+        assertThat(digestFromEvents(first, json)).isNotEqualTo(digestFromEvents(second, json));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "[{\"a\":[1,2]},{\"b\":3},\"c\"]",
+    })
+    public void appendShouldReturnFalseAtEndOfEachValue(String json) {
+        JsonInstanceHasher hasher = new JsonInstanceHasher();
+        int completed = 0;
+        try (JsonParser parser = Json.createParser(new StringReader(json))) {
+            parser.next();
+            while (parser.hasNext()) {
+                JsonParser.Event event = parser.next();
+                if (event == JsonParser.Event.END_ARRAY && !parser.hasNext()) {
+                    break;
+                }
+                if (!hasher.append(event, parser)) {
+                    completed++;
+                }
+            }
+        }
+
+        assertThat(completed).isEqualTo(3);
+        assertThat(hasher.digest()).isEqualTo(hasher.digest(Json.createValue("c")));
+    }
+
+    private static Digest digestFromEvents(JsonInstanceHasher hasher, String json) {
+        try (JsonParser parser = Json.createParser(new StringReader(json))) {
+            while (parser.hasNext()) {
+                if (!hasher.append(parser.next(), parser)) {
+                    break;
+                }
+            }
+        }
+        return hasher.digest();
+    }
+
+    private static JsonValue readValue(String json) {
+        try (JsonReader reader = Json.createReader(new StringReader(json))) {
+            return reader.readValue();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * A test class for {@link NumericValue}.
+ *
+ * @author leadpony
+ */
+public class NumericValueTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, true",
+        "42, true",
+        "-42, true",
+        "1.0, true",
+        "1e2, true",
+        "1.5e1, true",
+        "12345678901234567890123, true",
+        "1e400, true",
+        "1.5, false",
+        "1e-2, false",
+        "-0.001, false",
+    })
+    public void isIntegralShouldReturnExpectedResult(String value, boolean expected) {
+        assertThat(numeric(value).isIntegral()).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1, 2, -1",
+        "2, 2.0, 0",
+        "-1, -2, 1",
+        "1.5, 1.25, 1",
+        "0.1, 0.10000000000000001, -1",
+        "0.0, -0.0, 0",
+        "9007199254740993, 9007199254740992, 1",
+        "9223372036854775807, 9223372036854775808, -1",
+        "1e400, 1e399, 1",
+        "-1e-400, 0, -1",
+    })
+    public void compareToShouldReturnExpectedResult(String left, String right, int expected) {
+        assertThat(Integer.signum(numeric(left).compareTo(numeric(right)))).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, 7, true",
+        "42, 7, true",
+        "-42, 7, true",
+        "43, 7, false",
+        "4.5, 1.5, true",
+        "4.6, 1.5, false",
+        "0.0075, 0.0001, true",
+        "0.00751, 0.0001, false",
+        "10, 0.01, true",
+        "1e308, 0.0001, true",
+        "1e308, 3, false",
+        "3e308, 3, true",
+        "1e-308, 0.0001, false",
+        "123456789012345678901234567890, 10, true",
+        "123456789012345678901234567891, 10, false",
+        "1e2147483647, 1e-2147483647, true",
+    })
+    public void isMultipleOfShouldReturnExpectedResult(String value, String factor, boolean expected) {
+        assertThat(numeric(value).isMultipleOf(numeric(factor))).isEqualTo(expected);
+    }
+
+    private static NumericValue numeric(String value) {
+        return new NumericValue(new BigDecimal(value));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.base.regex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * A test class for {@link MultiPattern}.
+ *
+ * @author leadpony
+ */
+public class MultiPatternTest {
+
+    private static final String[] PATTERNS = {
+        "^x-",
+        "\\.json$",
+        "^[a-z]+_id$",
+        "ab?c",
+        "a{2}b",
+        "(foo)?bar",
+        "[0-9]+px",
+        "^(?i)name",
+        "cat|dog",
+        "^\\$ref$",
+        "",
+        "é+t",
+        "\\u0041b",
+        "\\x41b",
+        "\\cJb",
+        "\\p{Lu}b",
+    };
+
+    private static final String[] INPUTS = {
+        "",
+        "x-foo",
+        "a-x-",
+        "data.json",
+        "data.json\n",
+        "user_id",
+        "User_id",
+        "ac",
+        "abc",
+        "aab",
+        "ab",
+        "bar",
+        "foobar",
+        "12px",
+        "px",
+        "NAME",
+        "hotdog",
+        "$ref",
+        "été",
+        "Ab",
+        "\nb",
+    };
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '#', value = {
+        "abc#abc",
+        "^abc$#abc",
+        "ab?c#a",
+        "ab*c#a",
+        "ab+c#ab",
+        "a{2,3}bc#bc",
+        "[a-z]+_id$#_id",
+        "(foo)?barbaz#barbaz",
+        "\\.json$#.json",
+        "x\\dyz#yz",
+        "\\u0041bc#bc",
+        "\\x41bc#bc",
+        "\\x{41}bc#bc",
+        "\\cJbc#bc",
+        "\\p{Lu}bc#bc",
+        "\\pLbc#bc",
+        "(a)\\1bc#bc",
+        "\\0101bc#bc",
+        "[]a]bc#",
+        "a|b#",
+        "(?i)abc#",
+    })
+    public void findRequiredLiteralShouldReturnLongestLiteral(String regex, String expected) {
+        String actual = MultiPattern.findRequiredLiteral(Pattern.compile(regex));
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void findAllShouldFindSamePatternsAsRegex() {
+        List<Pattern> patterns = Arrays.stream(PATTERNS)
+                .map(Pattern::compile)
+                .collect(Collectors.toList());
+        MultiPattern multiPattern = new MultiPattern(patterns);
+
+        for (String input : INPUTS) {
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < patterns.size(); i++) {
+                if (patterns.get(i).matcher(input).find()) {
+                    expected.add(i);
+                }
+            }
+            List<Integer> actual = new ArrayList<>();
+            boolean found = multiPattern.findAll(input, actual::add);
+
+            assertThat(actual).as(input).isEqualTo(expected);
+            assertThat(found).isEqualTo(!expected.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.leadpony.justify.internal.keyword.assertion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.json.Json;
+import javax.json.JsonBuilderFactory;
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.leadpony.justify.api.Evaluator;
+import org.leadpony.justify.api.Evaluator.Result;
+import org.leadpony.justify.api.EvaluatorContext;
+import org.leadpony.justify.api.InstanceType;
+import org.leadpony.justify.api.Problem;
+import org.leadpony.justify.internal.problem.DefaultProblemDispatcher;
+
+/**
+ * A test class for {@link UniqueItems}.
+ *
+ * @author leadpony
+ */
+public class UniqueItemsTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "[[1],[2]]|true",
+        "[{\"a\":1},{\"a\":2},[],{}]|true",
+        "[[1],[2],[1.0]]|false",
+        "[{\"a\":1,\"b\":2},[3],{\"b\":2,\"a\":1}]|false",
+        "[[5],[109951162821.6]]|true",
+        "[[5],[5.0]]|false",
+    })
+    public void evaluateShouldFindDuplicatedArraysAndObjects(String instance, boolean valid) {
+        UniqueItems keyword = new UniqueItems(JsonValue.TRUE, true);
+
+        List<Problem> problems = new ArrayList<>();
+        Result result = evaluate(keyword, instance, problems);
+
+        assertThat(result).isEqualTo(valid ? Result.TRUE : Result.FALSE);
+        assertThat(problems.isEmpty()).isEqualTo(valid);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "[1,2,1.0]|false",
+        "[1.50,2,1.5]|false",
+        "[1.5,1.05]|true",
+        "[100000000000000000000,1E+20]|false",
+        "[100000000000000000000,100000000000000000001]|true",
+        "[1E+18,1000000000000000000.0]|false",
+    })
+    public void evaluateShouldFindDuplicatedNumbers(String instance, boolean valid) {
+        UniqueItems keyword = new UniqueItems(JsonValue.TRUE, true);
+
+        List<Problem> problems = new ArrayList<>();
+        Result result = evaluate(keyword, instance, problems);
+
+        assertThat(result).isEqualTo(valid ? Result.TRUE : Result.FALSE);
+        assertThat(problems.isEmpty()).isEqualTo(valid);
+    }
+
+    private static Result evaluate(UniqueItems keyword, String instance, List<Problem> problems) {
+        try (JsonParser parser = Json.createParser(new StringReader(instance))) {
+            EvaluatorContext context = createContext(parser);
+            DefaultProblemDispatcher dispatcher = problems::add;
+            Evaluator evaluator = null;
+            Result result = Result.PENDING;
+            int depth = 0;
+            while (parser.hasNext()) {
+                Event event = parser.next();
+                if (evaluator == null) {
+                    evaluator = keyword.createEvaluator(context, InstanceType.ARRAY);
+                }
+                if (event == Event.END_ARRAY || event == Event.END_OBJECT) {
+                    --depth;
+                }
+                result = evaluator.evaluate(event, depth, dispatcher);
+                if (event == Event.START_ARRAY || event == Event.START_OBJECT) {
+                    ++depth;
+                }
+            }
+            return result;
+        }
+    }
+
+    private static EvaluatorContext createContext(JsonParser parser) {
+        return new EvaluatorContext() {
+
+            @Override
+            public JsonParser getParser() {
+                return parser;
+            }
+
+            @Override
+            public String getPointer() {
+                return "";
+            }
+
+            @Override
+            public JsonProvider getJsonProvider() {
+                return PROVIDER;
+            }
+
+            @Override
+            public JsonBuilderFactory getJsonBuilderFactory() {
+                return PROVIDER.createBuilderFactory(null);
+            }
+
+            @Override
+            public boolean acceptsDefaultValues() {
+                return false;
+            }
+
+            @Override
+            public void putDefaultProperties(Map<String, JsonValue> properties) {
+            }
+
+            @Override
+            public void putDefaultItems(List<JsonValue> items) {
+            }
+        };
+    }
+}
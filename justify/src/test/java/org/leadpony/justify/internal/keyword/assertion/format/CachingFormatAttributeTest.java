@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018-2019 the Justify authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.leadpony.justify.internal.keyword.assertion.format;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import javax.json.Json;
+import javax.json.JsonValue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.leadpony.justify.spi.FormatAttribute;
+
+/**
+ * A test class for {@link CachingFormatAttribute}.
+ *
+ * @author leadpony
+ */
+public class CachingFormatAttributeTest {
+
+    @Test
+    public void ofShouldReturnOriginalIfCacheSizeIsZero() {
+        FormatAttribute attribute = new Hostname();
+
+        assertThat(CachingFormatAttribute.of(attribute, 0)).isSameAs(attribute);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "example.org, true",
+        "-example.org, false",
+    })
+    public void testShouldReturnSameResultAsOriginal(String value, boolean valid) {
+        FormatAttribute attribute = new Hostname();
+        FormatAttribute sut = CachingFormatAttribute.of(attribute, 4);
+        JsonValue json = Json.createValue(value);
+
+        assertThat(sut.name()).isEqualTo(attribute.name());
+        assertThat(sut.test(json)).isEqualTo(valid);
+        assertThat(sut.test(json)).isEqualTo(valid);
+    }
+
+    @Test
+    public void testShouldCountHitsAndMisses() {
+        CachingFormatAttribute sut = (CachingFormatAttribute) CachingFormatAttribute.of(new Hostname(), 4);
+
+        sut.test(Json.createValue("example.org"));
+        sut.test(Json.createValue("example.org"));
+        sut.test(Json.createValue("example.com"));
+        sut.test(Json.createValue("example.org"));
+
+        assertThat(sut.getHitCount()).isEqualTo(2);
+        assertThat(sut.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testShouldNotCacheLongValues() {
+        CachingFormatAttribute sut = (CachingFormatAttribute) CachingFormatAttribute.of(new Hostname(), 4);
+        JsonValue json = Json.createValue(String.join("", Collections.nCopies(300, "a")));
+
+        assertThat(sut.test(json)).isFalse();
+        assertThat(sut.test(json)).isFalse();
+
+        assertThat(sut.getHitCount()).isZero();
+        assertThat(sut.getMissCount()).isEqualTo(2);
+    }
+}
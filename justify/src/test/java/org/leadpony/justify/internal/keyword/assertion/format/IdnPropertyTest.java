@@ -24,9 +24,8 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.stream.Stream;
 
-import org.junit.jupiter.api.condition.EnabledOnJre;
-import org.junit.jupiter.api.condition.JRE;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 /**
@@ -36,11 +35,14 @@ import org.junit.jupiter.params.provider.MethodSource;
  */
 public class IdnPropertyTest {
 
-    private static final String TABLE_6_2_0 = "/org/iana/idna-tables-properties-" + getUnicodeVersion() + ".csv";
+    private static final String TABLE_6_3_0 = "/org/iana/idna-tables-properties-6.3.csv";
 
+    /*
+     * The table in the main code is newer than the table of IANA,
+     * so the code points unassigned in the latter may be assigned in the former.
+     */
     @ParameterizedTest(name = "{0}")
     @MethodSource("fixtures")
-    @EnabledOnJre(JRE.JAVA_8)
     public void ofShouldReturnIdnPropertyAsExpected(Fixture fixture) {
         for (int codePoint = fixture.startCodePoint; codePoint <= fixture.endCodePoint; codePoint++) {
             IdnProperty actual = IdnProperty.of(codePoint);
@@ -48,12 +50,24 @@ public class IdnPropertyTest {
         }
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "0x0378, UNASSIGNED",
+        "0x0860, PVALID",
+        "0x1F600, DISALLOWED",
+        "0x10FFFF, DISALLOWED",
+    })
+    public void ofShouldReturnIdnPropertyOfNewerUnicode(String codePoint, IdnProperty expected) {
+        assertThat(IdnProperty.of(Integer.decode(codePoint))).isEqualTo(expected);
+    }
+
     public static Stream<Fixture> fixtures() throws IOException {
-        InputStream in = IdnPropertyTest.class.getResourceAsStream(TABLE_6_2_0);
+        InputStream in = IdnPropertyTest.class.getResourceAsStream(TABLE_6_3_0);
         BufferedReader reader = new BufferedReader(new InputStreamReader(in));
         return reader.lines()
                 .skip(1) // Skips header line.
-                .map(IdnPropertyTest::mapLine);
+                .map(IdnPropertyTest::mapLine)
+                .filter(fixture -> fixture.expected != IdnProperty.UNASSIGNED);
     }
 
     private static Fixture mapLine(String line) {
@@ -68,17 +82,6 @@ public class IdnPropertyTest {
         return new Fixture(start, end, property);
     }
 
-    private static String getUnicodeVersion() {
-        String specVersion = System.getProperty("java.specification.version");
-        switch (specVersion) {
-        case "1.8":
-        default:
-            return "6.2";
-        case "10":
-            return "8.0";
-        }
-    }
-
     /**
      * A test fixture for {@link IdnProperty}.
      *